@@ -0,0 +1,12 @@
+package br.com.com.microservices.orchestrated.inventoryservice.config.exception;
+
+public class CodecException extends RuntimeException {
+
+    public CodecException(String message) {
+        super(message);
+    }
+
+    public CodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
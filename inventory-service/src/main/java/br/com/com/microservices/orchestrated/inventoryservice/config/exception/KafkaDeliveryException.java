@@ -0,0 +1,8 @@
+package br.com.com.microservices.orchestrated.inventoryservice.config.exception;
+
+public class KafkaDeliveryException extends RuntimeException {
+
+    public KafkaDeliveryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
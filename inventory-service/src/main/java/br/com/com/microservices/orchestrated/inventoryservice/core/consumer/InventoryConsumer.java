@@ -1,9 +1,11 @@
 package br.com.com.microservices.orchestrated.inventoryservice.core.consumer;
 
+import br.com.com.microservices.orchestrated.inventoryservice.core.dto.Event;
 import br.com.com.microservices.orchestrated.inventoryservice.core.service.InventoryService;
-import br.com.com.microservices.orchestrated.inventoryservice.utils.JsonUtil;
+import br.com.com.microservices.orchestrated.inventoryservice.utils.EventCodec;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -13,23 +15,23 @@ import org.springframework.stereotype.Component;
 public class InventoryConsumer {
 
     private final InventoryService service;
-    private final JsonUtil jsonUtil;
+    private final EventCodec codec;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.inventory-success}"
     )
-    public void consumerInventorySuccessEvent(String payload){
-        log.info("Receiving inventory success event {} from inventory-success topic",payload);
-        service.updateInventory(jsonUtil.toEvent(payload));
+    public void consumerInventorySuccessEvent(ConsumerRecord<String, byte[]> record) {
+        log.info("Receiving inventory success event {} from inventory-success topic", record.key());
+        service.updateInventory(codec.decode(record, Event.class));
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.inventory-fail}"
     )
-    public void consumerInventoryFailEvent(String payload){
-        log.info("Receiving inventory fail event {} from inventory-fail topic",payload);
-        service.returnInventoryToPreviousValues(jsonUtil.toEvent(payload));
+    public void consumerInventoryFailEvent(ConsumerRecord<String, byte[]> record) {
+        log.info("Receiving inventory fail event {} from inventory-fail topic", record.key());
+        service.returnInventoryToPreviousValues(codec.decode(record, Event.class));
     }
 }
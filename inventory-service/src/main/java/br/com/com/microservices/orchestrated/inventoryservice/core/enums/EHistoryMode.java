@@ -0,0 +1,6 @@
+package br.com.com.microservices.orchestrated.inventoryservice.core.enums;
+
+public enum EHistoryMode {
+    FULL,
+    LATEST,
+}
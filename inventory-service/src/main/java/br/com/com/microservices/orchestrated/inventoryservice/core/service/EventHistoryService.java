@@ -0,0 +1,29 @@
+package br.com.com.microservices.orchestrated.inventoryservice.core.service;
+
+import br.com.com.microservices.orchestrated.inventoryservice.core.dto.Event;
+import br.com.com.microservices.orchestrated.inventoryservice.core.dto.History;
+import br.com.com.microservices.orchestrated.inventoryservice.core.enums.EHistoryMode;
+import br.com.com.microservices.orchestrated.inventoryservice.core.producer.KafkaProducer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class EventHistoryService {
+
+    private final KafkaProducer producer;
+
+    @Value("${saga.history.mode}")
+    private EHistoryMode historyMode;
+
+    public void addHistory(Event event, History history) {
+        if (historyMode == EHistoryMode.LATEST) {
+            event.setEventHistory(null);
+            event.addToEventHistory(history);
+            producer.sendHistory(event.getTransactionId(), history);
+            return;
+        }
+        event.addToEventHistory(history);
+    }
+}
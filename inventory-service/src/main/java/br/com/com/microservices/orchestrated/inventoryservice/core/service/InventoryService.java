@@ -11,10 +11,12 @@ import br.com.com.microservices.orchestrated.inventoryservice.core.model.OrderIn
 import br.com.com.microservices.orchestrated.inventoryservice.core.producer.KafkaProducer;
 import br.com.com.microservices.orchestrated.inventoryservice.core.repository.InventoryRepository;
 import br.com.com.microservices.orchestrated.inventoryservice.core.repository.OrderInventoryRepository;
-import br.com.com.microservices.orchestrated.inventoryservice.utils.JsonUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 
@@ -27,21 +29,37 @@ public class InventoryService {
 
     private final InventoryRepository inventoryRepository;
     private final OrderInventoryRepository orderInventoryRepository;
-    private final JsonUtil jsonUtil;
     private final KafkaProducer producer;
+    private final EventHistoryService historyService;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
 
     public void updateInventory(Event event){
+        producer.startRecord();
+        var sample = Timer.start(meterRegistry);
         try{
-            checkCurrentValidation(event);
-            createOrderInventory(event);
-            updateInventory(event.getPayload());
+            if (!alreadyUpdated(event)) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    createOrderInventory(event);
+                    updateInventory(event.getPayload());
+                });
+            }
             handleSuccess(event);
         } catch (Exception ex) {
             log.error("Error trying to update inventory: ", ex);
             handleFailCurrentNotExecuted(event, ex.getMessage());
         }
+        recordProcessingTime(sample, event);
+
+        producer.sendEvent(event);
+    }
 
-        producer.sendEvent(jsonUtil.toJson(event));
+    private void recordProcessingTime(Timer.Sample sample, Event event) {
+        sample.stop(Timer
+                .builder("saga.step.processing")
+                .tag("source", CURRENT_SOURCE)
+                .tag("status", String.valueOf(event.getStatus()))
+                .register(meterRegistry));
     }
 
     private void handleFailCurrentNotExecuted(Event event, String message) {
@@ -101,11 +119,13 @@ public class InventoryService {
                 .orElseThrow(() -> new ValidationException("Inventory not found by informed product."));
     }
 
-    private void checkCurrentValidation(Event event) {
-        if (orderInventoryRepository.existsByOrderIdAndTransactionId(
-                event.getPayload().getId(), event.getPayload().getTransactionId())){
-            throw new ValidationException("There's another transactionId for this validation.");
-        }
+    /**
+     * The order inventory rows and the stock changes commit together, so rows for this order and transaction
+     * mean a redelivered record whose first attempt succeeded, and its success is replayed instead of failing.
+     */
+    private boolean alreadyUpdated(Event event) {
+        return orderInventoryRepository.existsByOrderIdAndTransactionId(
+                event.getPayload().getId(), event.getPayload().getTransactionId());
     }
 
     private void addHistory(Event event, String message) {
@@ -117,7 +137,7 @@ public class InventoryService {
                 .createdAt(LocalDateTime.now())
                 .build();
         
-        event.addToEventHistory(history);
+        historyService.addHistory(event, history);
     }
 
     public void returnInventoryToPreviousValues(Event event){
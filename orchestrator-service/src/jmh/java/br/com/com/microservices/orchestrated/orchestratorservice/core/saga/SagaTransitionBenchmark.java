@@ -0,0 +1,84 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.config.saga.SagaDefinitionProperties;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.*;
+import static br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.*;
+import static br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.*;
+
+/**
+ * Compares the compiled transition table with the stream scan over the Object[][] table it replaced.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SagaTransitionBenchmark {
+
+    private static final Object[][] LEGACY_SAGA_HANDLER = {
+            { ORCHESTRATOR, SUCCESS, PRODUCT_VALIDATION_SUCCESS },
+            { ORCHESTRATOR, FAIL, FINISH_FAIL },
+            { PRODUCT_VALIDATION_SERVICE, ROLLBACK_PENDING, PRODUCT_VALIDATION_FAIL },
+            { PRODUCT_VALIDATION_SERVICE, FAIL, FINISH_FAIL },
+            { PRODUCT_VALIDATION_SERVICE, SUCCESS, PAYMENT_SUCCESS },
+            { PAYMENT_SERVICE, ROLLBACK_PENDING, PAYMENT_FAIL },
+            { PAYMENT_SERVICE, FAIL, PRODUCT_VALIDATION_FAIL },
+            { PAYMENT_SERVICE, SUCCESS, INVENTORY_SUCCESS },
+            { INVENTORY_SERVICE, ROLLBACK_PENDING, INVENTORY_FAIL },
+            { INVENTORY_SERVICE, FAIL, PAYMENT_FAIL },
+            { INVENTORY_SERVICE, SUCCESS, FINISH_SUCCESS },
+    };
+
+    private SagaTransitionEngine engine;
+    private EEventSource[] sources;
+    private ESagaStatus[] statuses;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        var definition = Arrays.stream(LEGACY_SAGA_HANDLER)
+                .map(row -> new SagaTransition((EEventSource) row[0], (ESagaStatus) row[1], (ETopics) row[2]))
+                .toList();
+        var properties = new SagaDefinitionProperties();
+        properties.setDefinitions(Map.of("order", List.copyOf(definition)));
+        engine = new SagaTransitionEngine(properties);
+        sources = definition.stream().map(SagaTransition::getSource).toArray(EEventSource[]::new);
+        statuses = definition.stream().map(SagaTransition::getStatus).toArray(ESagaStatus[]::new);
+    }
+
+    @Benchmark
+    public ETopics compiledTable() {
+        var i = next();
+        return engine.nextTopic(null, sources[i], statuses[i]);
+    }
+
+    @Benchmark
+    public ETopics legacyStreamScan() {
+        var i = next();
+        var source = sources[i];
+        var status = statuses[i];
+        return (ETopics) Arrays.stream(LEGACY_SAGA_HANDLER)
+                .filter(row -> status.equals(row[1]) && source.equals(row[0]))
+                .map(row -> row[2])
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private int next() {
+        var i = cursor;
+        cursor = i + 1 == sources.length ? 0 : i + 1;
+        return i;
+    }
+}
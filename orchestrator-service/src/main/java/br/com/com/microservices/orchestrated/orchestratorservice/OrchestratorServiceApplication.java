@@ -2,8 +2,12 @@ package br.com.com.microservices.orchestrated.orchestratorservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@ConfigurationPropertiesScan
 public class OrchestratorServiceApplication {
 
 	public static void main(String[] args) {
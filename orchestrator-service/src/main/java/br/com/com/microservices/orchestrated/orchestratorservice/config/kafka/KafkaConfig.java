@@ -1,18 +1,31 @@
 package br.com.com.microservices.orchestrated.orchestratorservice.config.kafka;
 
+import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.CodecException;
 import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.producer.KafkaSender;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.RangeAssignor;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -22,8 +35,13 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class KafkaConfig {
 
-    public static final int PARTITION_COUNT = 1;
     public static final int REPLICA_COUNT = 1;
+
+    private final KafkaDeliveryProperties deliveryProperties;
+
+    @Value("${spring.kafka.topic.partitions}")
+    private int partitionCount;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
@@ -33,8 +51,26 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.auto-offset-reset}")
     private String autoOffsetReset;
 
+    @Value("${spring.kafka.listener.concurrency}")
+    private int listenerConcurrency;
+
+    @Value("${spring.kafka.consumer.batch.size}")
+    private int batchSize;
+
+    @Value("${spring.kafka.consumer.batch.max-wait-ms}")
+    private int batchMaxWaitMs;
+
+    @Value("${spring.kafka.consumer.batch.min-bytes}")
+    private int batchMinBytes;
+
+    @Value("${saga.tracker.state-retention-ms}")
+    private long sagaStateRetentionMs;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
+    public ConsumerFactory<String, byte[]> consumerFactory() {
         return new DefaultKafkaConsumerFactory<>(consumerProps());
     }
 
@@ -44,34 +80,121 @@ public class KafkaConfig {
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        // same-numbered partitions of the saga topics go to the same consumer, see InFlightSagaTracker
+        props.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, RangeAssignor.class.getName());
 
         return props;
     }
 
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
-        return new DefaultKafkaProducerFactory<>(producerProps());
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactory(
+            ConsumerAwareRebalanceListener sagaStateRestorer) {
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.getContainerProperties().setConsumerRebalanceListener(sagaStateRestorer);
+        factory.setConcurrency(listenerConcurrency);
+        factory.setCommonErrorHandler(kafkaErrorHandler());
+        if (virtualThreads) {
+            var executor = new SimpleAsyncTaskExecutor("orchestrator-listener-");
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
+        return factory;
     }
 
-    private Map<String, Object> producerProps() {
+    private Map<String, Object> batchConsumerProps() {
+        var props = consumerProps();
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, batchMaxWaitMs);
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, batchMinBytes);
+        return props;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> batchKafkaListenerContainerFactory(
+            ConsumerAwareRebalanceListener sagaStateRestorer) {
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(batchConsumerProps()));
+        factory.getContainerProperties().setConsumerRebalanceListener(sagaStateRestorer);
+        factory.setBatchListener(true);
+        factory.setConcurrency(listenerConcurrency);
+        factory.setCommonErrorHandler(kafkaErrorHandler());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        if (virtualThreads) {
+            var executor = new SimpleAsyncTaskExecutor("orchestrator-batch-");
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
+        return factory;
+    }
+
+    @Bean
+    public CommonErrorHandler kafkaErrorHandler() {
+        var errorHandler = new DefaultErrorHandler();
+        errorHandler.addNotRetryableExceptions(CodecException.class);
+        return errorHandler;
+    }
+
+    @Bean
+    public ProducerFactory<String, byte[]> producerFactory() {
+        return producerFactory(profile(KafkaDeliveryProperties.DEFAULT_PROFILE));
+    }
+
+    private ProducerFactory<String, byte[]> producerFactory(KafkaDeliveryProperties.Profile profile) {
+        return new DefaultKafkaProducerFactory<>(producerProps(profile));
+    }
+
+    private Map<String, Object> producerProps(KafkaDeliveryProperties.Profile profile) {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, profile.getLingerMs());
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, profile.getBatchSize());
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, profile.getCompressionType());
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, profile.isEnableIdempotence());
+        props.put(ProducerConfig.ACKS_CONFIG, profile.getAcks());
         return props;
     }
 
+    private KafkaDeliveryProperties.Profile profile(String name) {
+        return deliveryProperties.getProfiles().getOrDefault(name, new KafkaDeliveryProperties.Profile());
+    }
+
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory) {
+    public KafkaTemplate<String, byte[]> kafkaTemplate(ProducerFactory<String, byte[]> producerFactory) {
         return new KafkaTemplate<>(producerFactory);
     }
 
+    @Bean
+    public KafkaSender kafkaSender(KafkaTemplate<String, byte[]> kafkaTemplate, MeterRegistry meterRegistry) {
+        Map<String, KafkaTemplate<String, byte[]>> templates = new HashMap<>();
+        templates.put(KafkaDeliveryProperties.DEFAULT_PROFILE, kafkaTemplate);
+        deliveryProperties.getProfiles().forEach((name, profile) ->
+                templates.putIfAbsent(name, new KafkaTemplate<>(producerFactory(profile))));
+        return new KafkaSender(templates, deliveryProperties, meterRegistry);
+    }
+
     private NewTopic buildTopic(String name) {
         return TopicBuilder
                 .name(name)
                 .replicas(REPLICA_COUNT)
-                .partitions(PARTITION_COUNT)
+                .partitions(partitionCount)
+                .build();
+    }
+
+    /**
+     * Saga checkpoints: compacted to the latest state per transactionId and deleted once older than the retention.
+     */
+    @Bean
+    public NewTopic sagaStateTopic() {
+        return TopicBuilder
+                .name(ETopics.SAGA_STATE.getTopic())
+                .replicas(REPLICA_COUNT)
+                .partitions(partitionCount)
+                .config(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT + "," + TopicConfig.CLEANUP_POLICY_DELETE)
+                .config(TopicConfig.RETENTION_MS_CONFIG, String.valueOf(sagaStateRetentionMs))
                 .build();
     }
 
@@ -90,6 +213,11 @@ public class KafkaConfig {
         return buildTopic(ETopics.NOTIFY_ENDING.getTopic());
     }
 
+    @Bean
+    public NewTopic sagaHistoryTopic() {
+        return buildTopic(ETopics.SAGA_HISTORY.getTopic());
+    }
+
     @Bean
     public NewTopic finishFailTopic() {
         return buildTopic(ETopics.FINISH_FAIL.getTopic());
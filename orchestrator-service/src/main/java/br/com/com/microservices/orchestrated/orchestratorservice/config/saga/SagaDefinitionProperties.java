@@ -0,0 +1,16 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.config.saga;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.core.saga.SagaTransition;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "saga")
+public class SagaDefinitionProperties {
+    private String defaultType = "order";
+    private Map<String, List<SagaTransition>> definitions = new LinkedHashMap<>();
+}
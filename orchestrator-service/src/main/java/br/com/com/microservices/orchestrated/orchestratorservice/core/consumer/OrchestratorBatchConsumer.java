@@ -0,0 +1,67 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.consumer;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.SagaDispatch;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.producer.KafkaProducer;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.service.OrchestratorService;
+import br.com.com.microservices.orchestrated.orchestratorservice.utils.EventCodec;
+import br.com.com.microservices.orchestrated.orchestratorservice.utils.SagaHeaders;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "spring.kafka.consumer.batch.enabled", havingValue = "true")
+public class OrchestratorBatchConsumer {
+    private final EventCodec codec;
+    private final OrchestratorService service;
+    private final KafkaProducer producer;
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            topics = {
+                    "${spring.kafka.topic.start-saga}",
+                    "${spring.kafka.topic.orchestrator}",
+                    "${spring.kafka.topic.finish-success}",
+                    "${spring.kafka.topic.finish-fail}"
+            }
+    )
+    public void consumerSagaEvents(List<ConsumerRecord<String, byte[]>> records) {
+        log.info("Receiving batch of {} saga events", records.size());
+        var dispatches = new ArrayList<SagaDispatch>(records.size());
+        for (var index = 0; index < records.size(); index++) {
+            var record = records.get(index);
+            try {
+                dispatches.addAll(route(record));
+            } catch (Exception ex) {
+                // the error handler commits the records before the failing index, so deliver them first
+                producer.sendEvents(dispatches);
+                throw new BatchListenerFailedException("Error trying to route event from topic "
+                        + record.topic() + " at offset " + record.offset(), ex, index);
+            }
+        }
+        producer.sendEvents(dispatches);
+    }
+
+    private List<SagaDispatch> route(ConsumerRecord<String, byte[]> record) {
+        var inboundTopic = ETopics.fromTopic(record.topic());
+        if (inboundTopic == ETopics.BASE_ORCHESTRATOR) {
+            var route = SagaHeaders.toRoute(record);
+            if (route.isPresent()) {
+                return service.forward(route.get(), record.value(), SagaHeaders.contentType(record));
+            }
+        }
+        return service.route(inboundTopic, codec.decode(record, Event.class));
+    }
+}
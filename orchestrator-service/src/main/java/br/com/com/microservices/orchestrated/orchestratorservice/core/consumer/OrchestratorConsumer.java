@@ -1,55 +1,74 @@
 package br.com.com.microservices.orchestrated.orchestratorservice.core.consumer;
 
+import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.ValidationException;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
 import br.com.com.microservices.orchestrated.orchestratorservice.core.service.OrchestratorService;
-import br.com.com.microservices.orchestrated.orchestratorservice.utils.JsonUtil;
+import br.com.com.microservices.orchestrated.orchestratorservice.utils.EventCodec;
+import br.com.com.microservices.orchestrated.orchestratorservice.utils.SagaHeaders;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @AllArgsConstructor
+@ConditionalOnProperty(name = "spring.kafka.consumer.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class OrchestratorConsumer {
-    private final JsonUtil jsonUtil;
+    private final EventCodec codec;
     private final OrchestratorService service;
+    /**
+     * One subscription for all saga topics, so the co-partitioned assignment gives every consumer the same
+     * partition numbers of each topic and a saga's messages all reach the instance tracking it.
+     */
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.start-saga}"
+            topics = {
+                    "${spring.kafka.topic.start-saga}",
+                    "${spring.kafka.topic.orchestrator}",
+                    "${spring.kafka.topic.finish-success}",
+                    "${spring.kafka.topic.finish-fail}"
+            }
     )
-    public void consumerStartSageEvent(String payload) {
-        log.info("Receiving start saga event {} from start-saga topic",payload);
-        var event = jsonUtil.toEvent(payload);
+    public void consumerSagaEvent(ConsumerRecord<String, byte[]> record) {
+        switch (ETopics.fromTopic(record.topic())) {
+            case START_SAGA -> consumerStartSageEvent(record);
+            case BASE_ORCHESTRATOR -> consumerOrchestratorEvent(record);
+            case FINISH_SUCCESS -> consumerFinishSuccessEvent(record);
+            case FINISH_FAIL -> consumerFinishFailEvent(record);
+            default -> throw new ValidationException("Topic " + record.topic() + " is not consumed by the orchestrator!");
+        }
+    }
+
+    private void consumerStartSageEvent(ConsumerRecord<String, byte[]> record) {
+        log.info("Receiving start saga event {} from start-saga topic", record.key());
+        var event = codec.decode(record, Event.class);
         service.startSaga(event);
     }
 
-    @KafkaListener(
-            groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.orchestrator}"
-    )
-    public void consumerOrchestratorEvent(String payload) {
-        log.info("Receiving orchestrator event {} from orchestrator topic",payload);
-        var event = jsonUtil.toEvent(payload);
-        service.continueSaga(event);
+    private void consumerOrchestratorEvent(ConsumerRecord<String, byte[]> record) {
+        SagaHeaders.toRoute(record).ifPresentOrElse(route -> {
+            log.info("Receiving orchestrator event {} from {} with status {} from orchestrator topic",
+                    route.transactionId(), route.source(), route.status());
+            service.continueSaga(route, record.value(), SagaHeaders.contentType(record));
+        }, () -> {
+            log.info("Receiving orchestrator event {} from orchestrator topic", record.key());
+            service.continueSaga(codec.decode(record, Event.class));
+        });
     }
 
-    @KafkaListener(
-            groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.finish-success}"
-    )
-    public void consumerFinishSuccessEvent(String payload) {
-        log.info("Receiving finish success event {} from finish-success topic",payload);
-        var event = jsonUtil.toEvent(payload);
+    private void consumerFinishSuccessEvent(ConsumerRecord<String, byte[]> record) {
+        log.info("Receiving finish success event {} from finish-success topic", record.key());
+        var event = codec.decode(record, Event.class);
         service.finishSagaSuccess(event);
     }
 
-    @KafkaListener(
-            groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.finish-fail}"
-    )
-    public void consumerFinishFailEvent(String payload) {
-        log.info("Receiving finish fail event {} from finish-fail topic",payload);
-        var event = jsonUtil.toEvent(payload);
+    private void consumerFinishFailEvent(ConsumerRecord<String, byte[]> record) {
+        log.info("Receiving finish fail event {} from finish-fail topic", record.key());
+        var event = codec.decode(record, Event.class);
         service.finishSagaFail(event);
     }
 }
@@ -0,0 +1,34 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.controller;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.ValidationException;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.InFlightSagaResponse;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.InFlightSagasResponse;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.tracker.InFlightSagaTracker;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/saga/in-flight")
+public class InFlightSagaController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final InFlightSagaTracker tracker;
+
+    @GetMapping
+    public InFlightSagasResponse findAll(@RequestParam(defaultValue = "100") int limit) {
+        var sagas = tracker.list(Math.max(0, Math.min(limit, MAX_LIMIT)))
+                .stream()
+                .map(InFlightSagaResponse::from)
+                .toList();
+        return new InFlightSagasResponse(tracker.count(), sagas);
+    }
+
+    @GetMapping("{transactionId}")
+    public InFlightSagaResponse findByTransactionId(@PathVariable String transactionId) {
+        return tracker.find(transactionId)
+                .map(InFlightSagaResponse::from)
+                .orElseThrow(() -> new ValidationException("Saga not found"));
+    }
+}
@@ -19,6 +19,7 @@ public class Event {
     private String id;
     private String transactionId;
     private String orderId;
+    private String sagaType;
     private Order payload;
     private EEventSource source;
     private ESagaStatus status;
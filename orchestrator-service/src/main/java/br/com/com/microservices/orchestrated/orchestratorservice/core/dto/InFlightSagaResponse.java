@@ -0,0 +1,26 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.dto;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.tracker.InFlightSaga;
+
+import java.time.Instant;
+
+public record InFlightSagaResponse(String transactionId,
+                                   String orderId,
+                                   String sagaType,
+                                   ETopics pendingTopic,
+                                   Instant startedAt,
+                                   Instant lastTransitionAt,
+                                   Instant deadline) {
+
+    public static InFlightSagaResponse from(InFlightSaga saga) {
+        return new InFlightSagaResponse(
+                saga.getTransactionId(),
+                saga.getOrderId(),
+                saga.getSagaType(),
+                saga.getPendingTopic(),
+                Instant.ofEpochMilli(saga.getStartedAt()),
+                Instant.ofEpochMilli(saga.getLastTransitionAt()),
+                Instant.ofEpochMilli(saga.getDeadline()));
+    }
+}
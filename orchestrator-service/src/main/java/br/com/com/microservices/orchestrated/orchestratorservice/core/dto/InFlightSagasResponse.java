@@ -0,0 +1,6 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.dto;
+
+import java.util.List;
+
+public record InFlightSagasResponse(int count, List<InFlightSagaResponse> sagas) {
+}
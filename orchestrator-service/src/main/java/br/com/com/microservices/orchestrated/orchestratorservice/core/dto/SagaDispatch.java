@@ -0,0 +1,4 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.dto;
+
+public record SagaDispatch(String topic, String key, byte[] payload, String contentType) {
+}
@@ -0,0 +1,18 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.dto;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+
+public record SagaRoute(String transactionId,
+                        String orderId,
+                        String sagaType,
+                        EEventSource source,
+                        ESagaStatus status) {
+
+    public static SagaRoute from(Event event) {
+        var orderId = event.getOrderId() != null || event.getPayload() == null
+                ? event.getOrderId()
+                : event.getPayload().getId();
+        return new SagaRoute(event.getTransactionId(), orderId, event.getSagaType(), event.getSource(), event.getStatus());
+    }
+}
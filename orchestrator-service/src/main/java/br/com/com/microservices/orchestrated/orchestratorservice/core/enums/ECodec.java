@@ -0,0 +1,27 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.enums;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.CodecException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ECodec {
+
+    JSON("application/json"),
+    SMILE("application/x-jackson-smile");
+
+    private String contentType;
+
+    public static ECodec fromContentType(String contentType) {
+        if (contentType == null) {
+            return JSON;
+        }
+        for (var codec : values()) {
+            if (codec.contentType.equals(contentType)) {
+                return codec;
+            }
+        }
+        throw new CodecException("Unsupported content type " + contentType + "!");
+    }
+}
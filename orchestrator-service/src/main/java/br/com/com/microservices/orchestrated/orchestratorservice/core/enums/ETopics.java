@@ -3,6 +3,11 @@ package br.com.com.microservices.orchestrated.orchestratorservice.core.enums;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Getter
 @AllArgsConstructor
 public enum ETopics {
@@ -17,7 +22,16 @@ public enum ETopics {
     PAYMENT_FAIL("payment-fail"),
     INVENTORY_SUCCESS("inventory-success"),
     INVENTORY_FAIL("inventory-fail"),
-    NOTIFY_ENDING("notify-ending");
+    NOTIFY_ENDING("notify-ending"),
+    SAGA_HISTORY("saga-history"),
+    SAGA_STATE("saga-state");
+
+    private static final Map<String, ETopics> BY_TOPIC = Arrays.stream(values())
+            .collect(Collectors.toMap(ETopics::getTopic, Function.identity()));
 
     private String topic;
+
+    public static ETopics fromTopic(String topic) {
+        return BY_TOPIC.get(topic);
+    }
 }
@@ -1,23 +1,60 @@
 package br.com.com.microservices.orchestrated.orchestratorservice.core.producer;
 
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.SagaDispatch;
+import br.com.com.microservices.orchestrated.orchestratorservice.utils.SagaHeaders;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 @AllArgsConstructor
 public class KafkaProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaSender sender;
+    private final MeterRegistry meterRegistry;
+
+    public void sendEvent(SagaDispatch dispatch){
+        var delivery = sender.send(buildRecord(dispatch));
+        recordMessageSize(dispatch);
+        sender.await(List.of(delivery));
+        log.info("Send event {} to the topic {}", dispatch.key(), dispatch.topic());
+    }
 
-    public void sendEvent(String payload, String topic){
-        try{
-            kafkaTemplate.send(topic, payload);
-            log.info("Send event to the topic {} with data {}", topic, payload);
-        } catch (Exception ex) {
-            log.error("Error trying to send data to topic {} with data {}", topic, payload, ex);
+    public void sendEvents(List<SagaDispatch> dispatches) {
+        if (dispatches.isEmpty()) {
+            return;
         }
+        var deliveries = new ArrayList<CompletableFuture<?>>(dispatches.size());
+        dispatches.forEach(dispatch -> {
+            deliveries.add(sender.send(buildRecord(dispatch)));
+            recordMessageSize(dispatch);
+        });
+        sender.flush();
+        sender.await(deliveries);
+        log.info("Send batch of {} events", dispatches.size());
+    }
+
+    private ProducerRecord<String, byte[]> buildRecord(SagaDispatch dispatch) {
+        var record = new ProducerRecord<>(dispatch.topic(), dispatch.key(), dispatch.payload());
+        record.headers().add(SagaHeaders.CONTENT_TYPE, dispatch.contentType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private void recordMessageSize(SagaDispatch dispatch) {
+        DistributionSummary
+                .builder("saga.message.size")
+                .baseUnit("bytes")
+                .tag("topic", dispatch.topic())
+                .register(meterRegistry)
+                .record(dispatch.payload().length);
     }
 }
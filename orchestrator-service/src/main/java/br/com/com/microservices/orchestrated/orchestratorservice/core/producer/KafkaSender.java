@@ -0,0 +1,110 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.producer;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.CodecException;
+import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.KafkaBackpressureException;
+import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.KafkaDeliveryException;
+import br.com.com.microservices.orchestrated.orchestratorservice.config.kafka.KafkaDeliveryProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous send path shared by the producers. Records awaiting a broker acknowledgement are bounded by
+ * {@code spring.kafka.delivery.max-in-flight}; once the bound is reached callers block until a send completes,
+ * and fail with {@link KafkaBackpressureException} after {@code acquire-timeout-ms}.
+ */
+@Slf4j
+public class KafkaSender {
+
+    private final Map<String, KafkaTemplate<String, byte[]>> templates;
+    private final KafkaDeliveryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore inFlight;
+
+    public KafkaSender(Map<String, KafkaTemplate<String, byte[]>> templates,
+                       KafkaDeliveryProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.templates = templates;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.inFlight = new Semaphore(properties.getMaxInFlight());
+        Gauge
+                .builder("kafka.producer.in.flight", inFlight, permits -> properties.getMaxInFlight() - permits.availablePermits())
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<SendResult<String, byte[]>> send(ProducerRecord<String, byte[]> record) {
+        acquire(record.topic());
+        var start = System.nanoTime();
+        try {
+            return template(record.topic())
+                    .send(record)
+                    .whenComplete((result, ex) -> complete(record, start, ex));
+        } catch (RuntimeException ex) {
+            complete(record, start, ex);
+            throw ex;
+        }
+    }
+
+    public void flush() {
+        templates.values().forEach(KafkaTemplate::flush);
+    }
+
+    /**
+     * Blocks until every delivery completed, so a listener only returns, and its offset is only committed, once
+     * its records are acknowledged by the broker.
+     */
+    public void await(Collection<? extends CompletableFuture<?>> deliveries) {
+        try {
+            CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof KafkaBackpressureException || ex.getCause() instanceof CodecException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new KafkaDeliveryException("Error delivering records to Kafka!", ex.getCause());
+        }
+    }
+
+    private void acquire(String topic) {
+        try {
+            if (!inFlight.tryAcquire(properties.getAcquireTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                meterRegistry.counter("kafka.producer.rejected", "topic", topic).increment();
+                throw new KafkaBackpressureException("Too many in-flight records, could not send to topic " + topic + "!");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new KafkaBackpressureException("Interrupted while waiting to send to topic " + topic + "!");
+        }
+    }
+
+    private void complete(ProducerRecord<String, byte[]> record, long start, Throwable ex) {
+        inFlight.release();
+        Timer
+                .builder("kafka.producer.delivery")
+                .tag("topic", record.topic())
+                .tag("outcome", ex == null ? "success" : "failure")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (ex != null) {
+            meterRegistry.counter("kafka.producer.errors",
+                    "topic", record.topic(), "exception", ex.getClass().getSimpleName()).increment();
+            log.error("Error delivering record {} to topic {}", record.key(), record.topic(), ex);
+        }
+    }
+
+    private KafkaTemplate<String, byte[]> template(String topic) {
+        var template = templates.get(properties.profileFor(topic));
+        return template != null ? template : templates.get(KafkaDeliveryProperties.DEFAULT_PROFILE);
+    }
+}
@@ -1,16 +1,12 @@
 package br.com.com.microservices.orchestrated.orchestratorservice.core.saga;
 
-import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.SagaRoute;
 import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
 import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.ValidationException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-
-import static br.com.com.microservices.orchestrated.orchestratorservice.core.saga.SagaHandler.*;
-import static java.lang.String.format;
 import static org.springframework.util.ObjectUtils.isEmpty;
 
 @Slf4j
@@ -18,45 +14,29 @@ import static org.springframework.util.ObjectUtils.isEmpty;
 @AllArgsConstructor
 public class SagaExecutionController {
 
-    private static final String SAGA_LOG_ID = "ORDER ID: %s | TRANSACTION ID %s | EVENT ID %s";
+    private final SagaTransitionEngine transitionEngine;
 
-    public ETopics getNextTopic(Event event){
-        if (isEmpty(event.getSource()) && isEmpty(event.getStatus())){
+    public ETopics getNextTopic(SagaRoute route){
+        if (isEmpty(route.source()) || isEmpty(route.status())){
             throw new ValidationException("Source and status must be informed");
         }
-        var topic = findTopicBySourceAndStatus(event);
-        logCurrentSaga(event, topic);
+        var topic = transitionEngine.nextTopic(route.sagaType(), route.source(), route.status());
+        logCurrentSaga(route, topic);
         return topic;
     }
 
-    private void logCurrentSaga(Event event, ETopics topic) {
-        var sagaId = createSagaId(event);
-        var source = event.getSource();
-        switch (event.getStatus()) {
-            case SUCCESS -> log.info("### CURRENT SAGA: {} | SUCCESS | NEXT TOPIC {} | {}",
-                    source, topic, sagaId);
-            case ROLLBACK_PENDING -> log.info("### CURRENT SAGA: {} | SENDING TO ROLLBACK CURRENT SERVICE | NEXT TOPIC {} | {}",
-                    source, topic, sagaId);
-            case FAIL -> log.info("### CURRENT SAGA: {} | SENDING TO ROLLBACK PREVIOUS SERVICE | NEXT TOPIC {} | {}",
-                    source, topic, sagaId);
+    private void logCurrentSaga(SagaRoute route, ETopics topic) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        var source = route.source();
+        switch (route.status()) {
+            case SUCCESS -> log.info("### CURRENT SAGA: {} | SUCCESS | NEXT TOPIC {} | ORDER ID: {} | TRANSACTION ID {}",
+                    source, topic, route.orderId(), route.transactionId());
+            case ROLLBACK_PENDING -> log.info("### CURRENT SAGA: {} | SENDING TO ROLLBACK CURRENT SERVICE | NEXT TOPIC {} | ORDER ID: {} | TRANSACTION ID {}",
+                    source, topic, route.orderId(), route.transactionId());
+            case FAIL -> log.info("### CURRENT SAGA: {} | SENDING TO ROLLBACK PREVIOUS SERVICE | NEXT TOPIC {} | ORDER ID: {} | TRANSACTION ID {}",
+                    source, topic, route.orderId(), route.transactionId());
         }
-    }
-
-    private String createSagaId(Event event) {
-        return format(SAGA_LOG_ID, event.getPayload().getId(), event.getTransactionId(), event.getId());
-    }
-
-    private ETopics findTopicBySourceAndStatus(Event event) {
-        return (ETopics)(Arrays.stream(SAGA_HANDLER)
-                .filter( row -> isEventSourceAndStatusValid(event, row))
-                .map(i ->  i[TOPIC_INDEX])
-                .findFirst()
-                .orElseThrow(() -> new ValidationException("Topic not found!")));
-    }
-
-    private boolean isEventSourceAndStatusValid(Event event, Object[] row) {
-        var source = row[EVENT_SOURCE_INDEX];
-        var status = row[SAGA_STATUS_INDEX];
-        return (event.getStatus().equals(status) && event.getSource().equals(source));
     }
 }
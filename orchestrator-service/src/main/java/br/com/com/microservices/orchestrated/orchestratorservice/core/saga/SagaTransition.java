@@ -0,0 +1,17 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaTransition {
+    private EEventSource source;
+    private ESagaStatus status;
+    private ETopics topic;
+}
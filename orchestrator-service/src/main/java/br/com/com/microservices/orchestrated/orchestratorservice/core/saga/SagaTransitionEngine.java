@@ -0,0 +1,52 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.ValidationException;
+import br.com.com.microservices.orchestrated.orchestratorservice.config.saga.SagaDefinitionProperties;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Slf4j
+@Component
+public class SagaTransitionEngine {
+
+    private final Map<String, SagaTransitionTable> tables;
+    private final SagaTransitionTable defaultTable;
+
+    public SagaTransitionEngine(SagaDefinitionProperties properties) {
+        if (isEmpty(properties.getDefinitions())) {
+            throw new IllegalStateException("At least one saga definition must be informed under saga.definitions");
+        }
+        tables = new HashMap<>();
+        properties.getDefinitions().forEach((sagaType, definition) -> {
+            tables.put(sagaType, SagaTransitionTable.compile(sagaType, definition));
+            log.info("Saga {} compiled with {} transitions", sagaType, definition.size());
+        });
+        defaultTable = tables.get(properties.getDefaultType());
+        if (defaultTable == null) {
+            throw new IllegalStateException("Default saga " + properties.getDefaultType() + " is not defined");
+        }
+    }
+
+    public ETopics nextTopic(String sagaType, EEventSource source, ESagaStatus status) {
+        return findTable(sagaType).nextTopic(source, status);
+    }
+
+    private SagaTransitionTable findTable(String sagaType) {
+        if (sagaType == null) {
+            return defaultTable;
+        }
+        var table = tables.get(sagaType);
+        if (table == null) {
+            throw new ValidationException("Saga type " + sagaType + " not found!");
+        }
+        return table;
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.ValidationException;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Saga definition compiled into a dense array indexed by {@code source.ordinal() * statusCount + status.ordinal()},
+ * so resolving the next topic is a single array read.
+ */
+public final class SagaTransitionTable {
+
+    private static final int STATUS_COUNT = ESagaStatus.values().length;
+    private static final int TABLE_SIZE = EEventSource.values().length * STATUS_COUNT;
+
+    @Getter
+    private final String sagaType;
+    private final ETopics[] transitions;
+
+    private SagaTransitionTable(String sagaType, ETopics[] transitions) {
+        this.sagaType = sagaType;
+        this.transitions = transitions;
+    }
+
+    public static SagaTransitionTable compile(String sagaType, List<SagaTransition> definition) {
+        var transitions = new ETopics[TABLE_SIZE];
+        definition.forEach(transition -> {
+            if (transition.getSource() == null || transition.getStatus() == null || transition.getTopic() == null) {
+                throw new IllegalStateException("Saga " + sagaType + " has an incomplete transition: " + transition);
+            }
+            var index = indexOf(transition.getSource(), transition.getStatus());
+            if (transitions[index] != null) {
+                throw new IllegalStateException("Saga " + sagaType + " declares " + transition.getSource()
+                        + "/" + transition.getStatus() + " more than once");
+            }
+            transitions[index] = transition.getTopic();
+        });
+        return new SagaTransitionTable(sagaType, transitions);
+    }
+
+    public ETopics nextTopic(EEventSource source, ESagaStatus status) {
+        var topic = transitions[indexOf(source, status)];
+        if (topic == null) {
+            throw new ValidationException("Topic not found!");
+        }
+        return topic;
+    }
+
+    private static int indexOf(EEventSource source, ESagaStatus status) {
+        return source.ordinal() * STATUS_COUNT + status.ordinal();
+    }
+}
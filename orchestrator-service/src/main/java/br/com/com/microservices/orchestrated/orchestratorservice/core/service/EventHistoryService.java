@@ -0,0 +1,39 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.service;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.History;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.SagaDispatch;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.EHistoryMode;
+import br.com.com.microservices.orchestrated.orchestratorservice.utils.EventCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+import static br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.SAGA_HISTORY;
+
+@Service
+@RequiredArgsConstructor
+public class EventHistoryService {
+
+    private final EventCodec codec;
+
+    @Value("${saga.history.mode}")
+    private EHistoryMode historyMode;
+
+    /**
+     * Adds the step to the event. In LATEST mode the step also has to reach saga-history, and the dispatch for it
+     * is returned so the caller can send it together with the event it belongs to.
+     */
+    public Optional<SagaDispatch> addHistory(Event event, History history) {
+        if (historyMode == EHistoryMode.LATEST) {
+            event.setEventHistory(null);
+            event.addToEventHistory(history);
+            return Optional.of(new SagaDispatch(
+                    SAGA_HISTORY.getTopic(), event.getTransactionId(), codec.encode(history), codec.contentType()));
+        }
+        event.addToEventHistory(history);
+        return Optional.empty();
+    }
+}
@@ -1,20 +1,28 @@
 package br.com.com.microservices.orchestrated.orchestratorservice.core.service;
 
+import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.ValidationException;
 import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
 import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.History;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.SagaDispatch;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.SagaRoute;
 import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
 import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
 import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
 import br.com.com.microservices.orchestrated.orchestratorservice.core.producer.KafkaProducer;
 import br.com.com.microservices.orchestrated.orchestratorservice.core.saga.SagaExecutionController;
-import br.com.com.microservices.orchestrated.orchestratorservice.utils.JsonUtil;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.tracker.InFlightSagaTracker;
+import br.com.com.microservices.orchestrated.orchestratorservice.utils.EventCodec;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.NOTIFY_ENDING;
+import static br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.SAGA_STATE;
 
 @Slf4j
 @Service
@@ -22,48 +30,146 @@ import static br.com.com.microservices.orchestrated.orchestratorservice.core.enu
 public class OrchestratorService {
     private final SagaExecutionController sagaExecutionController;
     private final KafkaProducer producer;
-    private final JsonUtil jsonUtil;
+    private final EventCodec codec;
+    private final InFlightSagaTracker tracker;
+    private final EventHistoryService historyService;
 
     public void startSaga(Event event){
+        route(ETopics.START_SAGA, event).forEach(this::send);
+    }
+
+    public void finishSagaSuccess(Event event){
+        route(ETopics.FINISH_SUCCESS, event).forEach(this::send);
+    }
+
+    public void finishSagaFail(Event event){
+        route(ETopics.FINISH_FAIL, event).forEach(this::send);
+    }
+
+    public void continueSaga(Event event){
+        route(ETopics.BASE_ORCHESTRATOR, event).forEach(this::send);
+    }
+
+    public void continueSaga(SagaRoute route, byte[] payload, String contentType) {
+        forward(route, payload, contentType).forEach(this::send);
+    }
+
+    public List<SagaDispatch> forward(SagaRoute route, byte[] payload, String contentType) {
+        if (tracker.isFenced(route.transactionId())) {
+            return dropLateReply(route.transactionId()).stream().toList();
+        }
+        var topic = sagaExecutionController.getNextTopic(route);
+        if (!tracker.track(route, topic)) {
+            return dropLateReply(route.transactionId()).stream().toList();
+        }
+        var dispatch = new SagaDispatch(topic.getTopic(), route.transactionId(), payload, contentType);
+        return withCheckpoint(List.of(dispatch), route.transactionId());
+    }
+
+    /**
+     * Fails a saga the tracker expired. The event only carries the saga's routing fields, not its last payload.
+     */
+    public void timeoutSaga(Event event, ETopics pendingTopic) {
+        log.warn("SAGA TIMED OUT WAITING FOR TOPIC {} FOR TRANSACTION {}!", pendingTopic, event.getTransactionId());
+        addHistory(event, "Saga timed out waiting for " + pendingTopic.getTopic() + "!").ifPresent(this::send);
+        withCheckpoint(failSaga(event), event.getTransactionId()).forEach(this::send);
+    }
+
+    /**
+     * Returns what has to be sent for the event: in LATEST history mode the saga-history step comes first, then
+     * the dispatch to the next topic. Nothing is returned for a late reply, so no step is published for it.
+     */
+    public List<SagaDispatch> route(ETopics inboundTopic, Event event) {
+        if (tracker.isFenced(event.getTransactionId())) {
+            return dropLateReply(event.getTransactionId()).stream().toList();
+        }
+        return switch (inboundTopic) {
+            case START_SAGA -> prepareStartSaga(event);
+            case BASE_ORCHESTRATOR -> prepareContinueSaga(event);
+            case FINISH_SUCCESS -> prepareFinishSagaSuccess(event);
+            case FINISH_FAIL -> prepareFinishSagaFail(event);
+            default -> throw new ValidationException("Topic " + inboundTopic.getTopic() + " is not consumed by the orchestrator!");
+        };
+    }
+
+    private List<SagaDispatch> prepareStartSaga(Event event) {
         event.setSource(EEventSource.ORCHESTRATOR);
         event.setStatus(ESagaStatus.SUCCESS);
         var topic = getTopic(event);
         log.info("SAGA STARTED!");
-        addHistory(event, "Saga started!");
-        sendToProducerWithTopic(event, topic);
+        var history = addHistory(event, "Saga started!");
+        return withCheckpoint(withHistory(history, track(event, topic)), event.getTransactionId());
     }
 
-    public void finishSagaSuccess(Event event){
+    private List<SagaDispatch> prepareFinishSagaSuccess(Event event) {
+        if (!tracker.complete(event.getTransactionId(), ESagaStatus.SUCCESS)) {
+            return dropLateReply(event.getTransactionId()).stream().toList();
+        }
         event.setSource(EEventSource.ORCHESTRATOR);
         event.setStatus(ESagaStatus.SUCCESS);
         log.info("SAGA FINISHED SUCCESSFULLY FOR EVENT {}!", event.getId());
-        addHistory(event, "Saga finished successfully!");
-        notifyFinishedSaga(event);
+        var history = addHistory(event, "Saga finished successfully!");
+        return withCheckpoint(withHistory(history, Optional.of(dispatch(event, NOTIFY_ENDING))), event.getTransactionId());
     }
 
-    public void finishSagaFail(Event event){
+    private List<SagaDispatch> prepareFinishSagaFail(Event event) {
+        if (!tracker.complete(event.getTransactionId(), ESagaStatus.FAIL)) {
+            return dropLateReply(event.getTransactionId()).stream().toList();
+        }
+        return withCheckpoint(failSaga(event), event.getTransactionId());
+    }
+
+    private List<SagaDispatch> failSaga(Event event) {
         event.setSource(EEventSource.ORCHESTRATOR);
         event.setStatus(ESagaStatus.FAIL);
         log.info("SAGA FINISHED WITH ERRORS FOR EVENT {}!", event.getId());
-        addHistory(event, "Saga finished with errors!");
-        notifyFinishedSaga(event);
+        var history = addHistory(event, "Saga finished with errors!");
+        return withHistory(history, Optional.of(dispatch(event, NOTIFY_ENDING)));
     }
 
-    public void continueSaga(Event event){
+    private List<SagaDispatch> prepareContinueSaga(Event event) {
         var topic = getTopic(event);
         log.info("SAGA CONTINUING FOR EVENT {}", event.getId());
-        sendToProducerWithTopic(event, topic);
+        return withCheckpoint(track(event, topic).stream().toList(), event.getTransactionId());
+    }
+
+    private static List<SagaDispatch> withHistory(Optional<SagaDispatch> history, Optional<SagaDispatch> dispatch) {
+        if (dispatch.isEmpty()) {
+            return List.of();
+        }
+        return Stream.concat(history.stream(), dispatch.stream()).toList();
+    }
+
+    /**
+     * Appends the saga's saga-state checkpoint, so it is delivered before the inbound offset is committed.
+     */
+    private List<SagaDispatch> withCheckpoint(List<SagaDispatch> dispatches, String transactionId) {
+        if (dispatches.isEmpty()) {
+            return dispatches;
+        }
+        var checkpoint = tracker.checkpoint(transactionId)
+                .map(state -> new SagaDispatch(SAGA_STATE.getTopic(), transactionId, codec.encode(state), codec.contentType()));
+        return Stream.concat(dispatches.stream(), checkpoint.stream()).toList();
+    }
+
+    private Optional<SagaDispatch> track(Event event, ETopics topic) {
+        return tracker.track(SagaRoute.from(event), topic) ? Optional.of(dispatch(event, topic)) : dropLateReply(event.getTransactionId());
+    }
+
+    private Optional<SagaDispatch> dropLateReply(String transactionId) {
+        log.warn("Dropping late message for saga {} that already ended", transactionId);
+        return Optional.empty();
     }
 
-    private void notifyFinishedSaga(Event event) {
-        producer.sendEvent(jsonUtil.toJson(event), NOTIFY_ENDING.getTopic());
+    private SagaDispatch dispatch(Event event, ETopics topic) {
+        return new SagaDispatch(topic.getTopic(), event.getTransactionId(), codec.encode(event), codec.contentType());
     }
 
-    private void sendToProducerWithTopic(Event event, ETopics topic) {
-        producer.sendEvent(jsonUtil.toJson(event), topic.getTopic());
+    private void send(SagaDispatch dispatch) {
+        producer.sendEvent(dispatch);
     }
 
-    private void addHistory(Event event, String message) {
+    private Optional<SagaDispatch> addHistory(Event event, String message) {
         var history = History
                 .builder()
                 .source(event.getSource())
@@ -71,10 +177,10 @@ public class OrchestratorService {
                 .message(message)
                 .createdAt(LocalDateTime.now())
                 .build();
-        event.addToEventHistory(history);
+        return historyService.addHistory(event, history);
     }
 
     private ETopics getTopic(Event event) {
-        return sagaExecutionController.getNextTopic(event);
+        return sagaExecutionController.getNextTopic(SagaRoute.from(event));
     }
 }
@@ -0,0 +1,141 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.tracker;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical hashed timing wheel. Every level has {@code wheelSize} buckets, and a bucket of level {@code n}
+ * spans {@code wheelSize^n} ticks. Scheduling and cancelling are O(1). A bucket of an upper level is cascaded
+ * into the lower levels when the wheel reaches it. Not thread-safe: callers must serialize access.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private static final int LEVELS = 4;
+
+    private final long tickMs;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final Bucket<T>[][] levels;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Tick must be positive and wheel size a power of two");
+        }
+        this.tickMs = tickMs;
+        this.wheelBits = Integer.numberOfTrailingZeros(wheelSize);
+        this.wheelMask = wheelSize - 1;
+        this.levels = new Bucket[LEVELS][wheelSize];
+        for (var level = 0; level < LEVELS; level++) {
+            for (var slot = 0; slot < wheelSize; slot++) {
+                levels[level][slot] = new Bucket<>();
+            }
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    public Timeout<T> schedule(T value, long deadlineMs) {
+        var timeout = new Timeout<>(value, Math.max(deadlineMs / tickMs, currentTick + 1));
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    public void advance(long nowMs, Consumer<Timeout<T>> onExpire) {
+        var targetTick = nowMs / tickMs;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            var bucket = levels[0][(int) (currentTick & wheelMask)];
+            for (var timeout = bucket.head; timeout != null; timeout = bucket.head) {
+                bucket.remove(timeout);
+                size--;
+                onExpire.accept(timeout);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void cascade() {
+        for (var level = LEVELS - 1; level > 0; level--) {
+            var shift = wheelBits * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            var bucket = levels[level][(int) ((currentTick >>> shift) & wheelMask)];
+            for (var timeout = bucket.head; timeout != null; timeout = bucket.head) {
+                bucket.remove(timeout);
+                place(timeout);
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        var deadlineTick = Math.max(timeout.deadlineTick, currentTick);
+        var delta = deadlineTick - currentTick;
+        var level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (wheelBits * (level + 1))) {
+            level++;
+        }
+        var slot = (int) ((deadlineTick >>> (wheelBits * level)) & wheelMask);
+        levels[level][slot].add(timeout);
+    }
+
+    public static final class Timeout<T> {
+        private final T value;
+        private final long deadlineTick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T value, long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T value() {
+            return value;
+        }
+    }
+
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+}
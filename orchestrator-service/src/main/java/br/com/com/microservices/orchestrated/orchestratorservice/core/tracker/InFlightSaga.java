@@ -0,0 +1,44 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.tracker;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.SagaRoute;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import lombok.Getter;
+
+@Getter
+public class InFlightSaga {
+    private final String transactionId;
+    private final int partition;
+    private final long startedAt;
+    private volatile String orderId;
+    private volatile String sagaType;
+    private volatile ETopics pendingTopic;
+    private volatile long previousTransitionAt;
+    private volatile long lastTransitionAt;
+    private volatile long deadline;
+    HierarchicalTimingWheel.Timeout<InFlightSaga> timeout;
+
+    InFlightSaga(String transactionId, int partition, long startedAt) {
+        this.transactionId = transactionId;
+        this.partition = partition;
+        this.startedAt = startedAt;
+    }
+
+    void transition(SagaRoute route, ETopics topic, long now, long deadline) {
+        if (route.orderId() != null) {
+            this.orderId = route.orderId();
+        }
+        this.sagaType = route.sagaType();
+        this.pendingTopic = topic;
+        this.previousTransitionAt = lastTransitionAt;
+        this.lastTransitionAt = now;
+        this.deadline = deadline;
+    }
+
+    void restore(SagaState state) {
+        this.orderId = state.orderId();
+        this.sagaType = state.sagaType();
+        this.pendingTopic = state.pendingTopic();
+        this.lastTransitionAt = state.lastTransitionAt();
+        this.deadline = state.deadline();
+    }
+}
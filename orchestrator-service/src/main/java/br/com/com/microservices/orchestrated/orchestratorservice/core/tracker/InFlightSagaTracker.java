@@ -0,0 +1,244 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.tracker;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.SagaRoute;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Index of the sagas the orchestrator is waiting on, keyed by transactionId. Every saga message is keyed by
+ * transactionId and the saga topics are co-partitioned, so a saga is only ever handled by the instance that owns
+ * its partition, and only the owner times it out. Updates to a saga run under its key's lock in the index; the
+ * {@link HierarchicalTimingWheel} holding the deadlines is only touched by {@link #expire}, which first applies
+ * the deadlines queued by the listener threads. Sagas that finished or timed out are remembered in a bounded set
+ * of tombstones, so a reply arriving after the saga ended is fenced off instead of tracked again. Deadlines and
+ * tombstones are checkpointed to the saga-state topic and replayed by {@link SagaStateRestorer} when a partition
+ * moves to another instance.
+ */
+@Slf4j
+@Component
+public class InFlightSagaTracker {
+
+    private static final String TIMEOUT_OUTCOME = "TIMEOUT";
+
+    @Getter
+    private final boolean enabled;
+    private final long stepTimeoutMs;
+    private final int partitions;
+    private final int maxTombstones;
+    private final Map<String, InFlightSaga> sagas = new ConcurrentHashMap<>();
+    private final Set<String> tombstones = ConcurrentHashMap.newKeySet();
+    private final Queue<String> tombstoneOrder = new ConcurrentLinkedQueue<>();
+    private final Queue<InFlightSaga> rescheduled = new ConcurrentLinkedQueue<>();
+    private final HierarchicalTimingWheel<InFlightSaga> wheel;
+    private final SagaMetrics metrics;
+
+    public InFlightSagaTracker(SagaMetrics metrics,
+                               @Value("${saga.tracker.enabled}") boolean enabled,
+                               @Value("${saga.tracker.step-timeout-ms}") long stepTimeoutMs,
+                               @Value("${saga.tracker.tick-ms}") long tickMs,
+                               @Value("${saga.tracker.wheel-size}") int wheelSize,
+                               @Value("${saga.tracker.tombstones}") int maxTombstones,
+                               @Value("${spring.kafka.topic.partitions}") int partitions) {
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.stepTimeoutMs = stepTimeoutMs;
+        this.partitions = partitions;
+        this.maxTombstones = maxTombstones;
+        this.wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * Whether the saga already finished or timed out, so a message for it is a late reply to drop.
+     */
+    public boolean isFenced(String transactionId) {
+        if (!enabled || transactionId == null || !tombstones.contains(transactionId)) {
+            return false;
+        }
+        metrics.recordLateReply();
+        return true;
+    }
+
+    /**
+     * Tracks the saga's next step, or returns false without tracking when the saga already ended.
+     */
+    public boolean track(SagaRoute route, ETopics pendingTopic) {
+        if (!enabled || route.transactionId() == null) {
+            return true;
+        }
+        var now = System.currentTimeMillis();
+        var deadline = now + stepTimeoutMs;
+        var saga = sagas.compute(route.transactionId(), (id, current) -> {
+            if (tombstones.contains(id)) {
+                return null;
+            }
+            var tracked = current != null ? current : new InFlightSaga(id, partitionOf(id), now);
+            tracked.transition(route, pendingTopic, now, deadline);
+            return tracked;
+        });
+        if (saga == null) {
+            metrics.recordLateReply();
+            return false;
+        }
+        rescheduled.add(saga);
+        if (saga.getPreviousTransitionAt() > 0) {
+            metrics.recordTransition(route, pendingTopic, now - saga.getPreviousTransitionAt());
+        }
+        return true;
+    }
+
+    /**
+     * Ends the saga, or returns false when it already ended, so only its first ending is sent.
+     */
+    public boolean complete(String transactionId, ESagaStatus status) {
+        if (!enabled || transactionId == null) {
+            return true;
+        }
+        if (!tombstone(transactionId)) {
+            metrics.recordLateReply();
+            return false;
+        }
+        var saga = sagas.remove(transactionId);
+        if (saga != null) {
+            rescheduled.add(saga);
+            metrics.recordDuration(saga, status.name(), System.currentTimeMillis());
+        }
+        return true;
+    }
+
+    /**
+     * The checkpoint to write to saga-state after the saga was tracked or ended, empty when tracking is off.
+     */
+    public Optional<SagaState> checkpoint(String transactionId) {
+        if (!enabled || transactionId == null) {
+            return Optional.empty();
+        }
+        var saga = sagas.get(transactionId);
+        if (saga != null) {
+            return Optional.of(SagaState.of(saga));
+        }
+        return tombstones.contains(transactionId) ? Optional.of(SagaState.ended(transactionId)) : Optional.empty();
+    }
+
+    /**
+     * Applies the deadlines queued since the last tick and expires the sagas past theirs. Must be called from a
+     * single thread, since it is the only one touching the wheel.
+     */
+    public List<InFlightSaga> expire(long now) {
+        if (!enabled) {
+            return Collections.emptyList();
+        }
+        for (var saga = rescheduled.poll(); saga != null; saga = rescheduled.poll()) {
+            if (saga.timeout != null) {
+                wheel.cancel(saga.timeout);
+                saga.timeout = null;
+            }
+            if (sagas.get(saga.getTransactionId()) == saga) {
+                saga.timeout = wheel.schedule(saga, saga.getDeadline());
+            }
+        }
+        var expired = new ArrayList<InFlightSaga>();
+        wheel.advance(now, timeout -> {
+            var saga = timeout.value();
+            if (saga.timeout != timeout) {
+                return;
+            }
+            saga.timeout = null;
+            sagas.computeIfPresent(saga.getTransactionId(), (id, current) -> {
+                if (current != saga || current.getDeadline() > now) {
+                    return current;
+                }
+                if (tombstone(id)) {
+                    expired.add(current);
+                }
+                return null;
+            });
+        });
+        expired.forEach(saga -> metrics.recordDuration(saga, TIMEOUT_OUTCOME, now));
+        return expired;
+    }
+
+    /**
+     * Rebuilds a saga of a newly assigned partition from its saga-state checkpoint.
+     */
+    public void restore(SagaState state) {
+        if (!enabled) {
+            return;
+        }
+        if (state.ended()) {
+            tombstone(state.transactionId());
+            sagas.remove(state.transactionId());
+            return;
+        }
+        var saga = sagas.compute(state.transactionId(), (id, current) -> {
+            if (tombstones.contains(id)) {
+                return null;
+            }
+            var restored = current != null ? current : new InFlightSaga(id, partitionOf(id), state.startedAt());
+            restored.restore(state);
+            return restored;
+        });
+        if (saga != null) {
+            rescheduled.add(saga);
+        }
+    }
+
+    /**
+     * Forgets the sagas of partitions this instance no longer owns, without timing them out: the new owner does.
+     */
+    public void release(Collection<Integer> revoked) {
+        if (enabled && !revoked.isEmpty()) {
+            sagas.values().removeIf(saga -> revoked.contains(saga.getPartition()));
+        }
+    }
+
+    public Optional<InFlightSaga> find(String transactionId) {
+        return Optional.ofNullable(sagas.get(transactionId));
+    }
+
+    public List<InFlightSaga> list(int limit) {
+        return sagas.values().stream().limit(limit).toList();
+    }
+
+    public int count() {
+        return sagas.size();
+    }
+
+    private boolean tombstone(String transactionId) {
+        if (!tombstones.add(transactionId)) {
+            return false;
+        }
+        tombstoneOrder.add(transactionId);
+        while (tombstones.size() > maxTombstones) {
+            var eldest = tombstoneOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            tombstones.remove(eldest);
+        }
+        return true;
+    }
+
+    /**
+     * Same partition the producers' default partitioner picks for the transactionId key.
+     */
+    private int partitionOf(String transactionId) {
+        return Utils.toPositive(Utils.murmur2(transactionId.getBytes(StandardCharsets.UTF_8))) % partitions;
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.tracker;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.SagaRoute;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saga latency timers, measured on the orchestrator's clock: {@code saga.transition} is the time a step took
+ * between two orchestrator hops and {@code saga.duration} the time from start-saga to the saga's end.
+ */
+@Component
+@RequiredArgsConstructor
+public class SagaMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordTransition(SagaRoute route, ETopics topic, long elapsedMs) {
+        Timer
+                .builder("saga.transition")
+                .tag("source", String.valueOf(route.source()))
+                .tag("status", String.valueOf(route.status()))
+                .tag("topic", topic.getTopic())
+                .register(meterRegistry)
+                .record(elapsedMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void recordLateReply() {
+        meterRegistry.counter("saga.late.replies").increment();
+    }
+
+    public void recordDuration(InFlightSaga saga, String outcome, long now) {
+        Timer
+                .builder("saga.duration")
+                .tag("type", String.valueOf(saga.getSagaType()))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(now - saga.getStartedAt(), TimeUnit.MILLISECONDS);
+    }
+}
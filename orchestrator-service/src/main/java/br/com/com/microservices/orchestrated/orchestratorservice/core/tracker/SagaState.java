@@ -0,0 +1,26 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.tracker;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+
+/**
+ * Checkpoint of a tracked saga in the compacted saga-state topic, keyed by transactionId like every other saga
+ * message. The instance that gets a saga's partitions assigned replays these to rebuild deadlines and tombstones.
+ */
+public record SagaState(String transactionId,
+                        String orderId,
+                        String sagaType,
+                        ETopics pendingTopic,
+                        long startedAt,
+                        long lastTransitionAt,
+                        long deadline,
+                        boolean ended) {
+
+    static SagaState of(InFlightSaga saga) {
+        return new SagaState(saga.getTransactionId(), saga.getOrderId(), saga.getSagaType(), saga.getPendingTopic(),
+                saga.getStartedAt(), saga.getLastTransitionAt(), saga.getDeadline(), false);
+    }
+
+    static SagaState ended(String transactionId) {
+        return new SagaState(transactionId, null, null, null, 0, 0, 0, true);
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.tracker;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.utils.EventCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.SAGA_STATE;
+
+/**
+ * Moves saga ownership along with the saga topics' partitions: sagas of revoked partitions are dropped, and
+ * the saga-state partitions with the same numbers as the assigned ones are replayed into the tracker before
+ * the listener gets their records, so the new owner keeps the deadlines and tombstones.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaStateRestorer implements ConsumerAwareRebalanceListener {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final InFlightSagaTracker tracker;
+    private final EventCodec codec;
+
+    @Override
+    public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        tracker.release(partitionNumbers(partitions));
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        tracker.release(partitionNumbers(partitions));
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        var numbers = partitionNumbers(partitions);
+        if (!tracker.isEnabled() || numbers.isEmpty()) {
+            return;
+        }
+        var statePartitions = numbers.stream().map(number -> new TopicPartition(SAGA_STATE.getTopic(), number)).toList();
+        var properties = new Properties();
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        try (var reader = consumerFactory.createConsumer(null, "saga-state-restorer", null, properties)) {
+            reader.assign(statePartitions);
+            reader.seekToBeginning(statePartitions);
+            var endOffsets = reader.endOffsets(statePartitions);
+            var restored = 0;
+            while (statePartitions.stream().anyMatch(partition -> reader.position(partition) < endOffsets.get(partition))) {
+                for (var record : reader.poll(POLL_TIMEOUT)) {
+                    if (record.value() != null) {
+                        tracker.restore(codec.decode(record, SagaState.class));
+                        restored++;
+                    }
+                }
+            }
+            log.info("Restored {} saga checkpoints for partitions {}", restored, numbers);
+        }
+    }
+
+    private static Set<Integer> partitionNumbers(Collection<TopicPartition> partitions) {
+        return partitions.stream().map(TopicPartition::partition).collect(Collectors.toSet());
+    }
+}
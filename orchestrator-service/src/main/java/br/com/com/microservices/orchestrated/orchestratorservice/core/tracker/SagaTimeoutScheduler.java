@@ -0,0 +1,34 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.tracker;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.service.OrchestratorService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class SagaTimeoutScheduler {
+
+    private final InFlightSagaTracker tracker;
+    private final OrchestratorService service;
+
+    @Scheduled(fixedRateString = "${saga.tracker.tick-ms}")
+    public void expireSagas() {
+        tracker.expire(System.currentTimeMillis()).forEach(saga -> {
+            try {
+                var event = Event
+                        .builder()
+                        .transactionId(saga.getTransactionId())
+                        .orderId(saga.getOrderId())
+                        .sagaType(saga.getSagaType())
+                        .build();
+                service.timeoutSaga(event, saga.getPendingTopic());
+            } catch (Exception ex) {
+                log.error("Error trying to expire saga {}", saga.getTransactionId(), ex);
+            }
+        });
+    }
+}
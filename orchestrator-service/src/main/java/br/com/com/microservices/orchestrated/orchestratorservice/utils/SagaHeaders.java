@@ -0,0 +1,50 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.utils;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.SagaRoute;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Saga routing metadata carried in Kafka record headers, so the orchestrator can pick the next topic
+ * without deserializing the event payload.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SagaHeaders {
+
+    public static final String SOURCE = "saga-source";
+    public static final String STATUS = "saga-status";
+    public static final String SAGA_TYPE = "saga-type";
+    public static final String ORDER_ID = "saga-order-id";
+    public static final String CONTENT_TYPE = "content-type";
+
+    public static String contentType(ConsumerRecord<String, ?> record) {
+        return read(record.headers(), CONTENT_TYPE);
+    }
+
+    public static Optional<SagaRoute> toRoute(ConsumerRecord<String, ?> record) {
+        var headers = record.headers();
+        var source = read(headers, SOURCE);
+        var status = read(headers, STATUS);
+        if (source == null || status == null || record.key() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new SagaRoute(
+                record.key(),
+                read(headers, ORDER_ID),
+                read(headers, SAGA_TYPE),
+                EEventSource.valueOf(source),
+                ESagaStatus.valueOf(status)));
+    }
+
+    private static String read(Headers headers, String name) {
+        var header = headers.lastHeader(name);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.producer;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.KafkaBackpressureException;
+import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.KafkaDeliveryException;
+import br.com.com.microservices.orchestrated.orchestratorservice.config.kafka.KafkaDeliveryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaSenderTest {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void blocksSendsBeyondTheInFlightBoundUntilOneCompletes() {
+        var properties = new KafkaDeliveryProperties();
+        properties.setMaxInFlight(1);
+        properties.setAcquireTimeoutMs(10);
+        var template = (KafkaTemplate<String, byte[]>) mock(KafkaTemplate.class);
+        var pending = new CompletableFuture<SendResult<String, byte[]>>();
+        when(template.send(any(ProducerRecord.class))).thenReturn(pending, new CompletableFuture<>());
+        var meterRegistry = new SimpleMeterRegistry();
+        var sender = new KafkaSender(Map.of(KafkaDeliveryProperties.DEFAULT_PROFILE, template), properties, meterRegistry);
+        var record = new ProducerRecord<>("orchestrator", "tx-1", new byte[0]);
+
+        sender.send(record);
+        assertThrows(KafkaBackpressureException.class, () -> sender.send(record));
+
+        pending.completeExceptionally(new IllegalStateException("broker down"));
+        sender.send(record);
+
+        assertEquals(1, meterRegistry.get("kafka.producer.errors").counter().count());
+        assertEquals(1, meterRegistry.get("kafka.producer.rejected").counter().count());
+        assertEquals(1, meterRegistry.get("kafka.producer.in.flight").gauge().value());
+    }
+
+    @Test
+    void awaitSurfacesDeliveryFailures() {
+        var sender = new KafkaSender(Map.of(), new KafkaDeliveryProperties(), new SimpleMeterRegistry());
+        var delivered = CompletableFuture.completedFuture(null);
+        var failed = CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+        var rejected = CompletableFuture.failedFuture(new KafkaBackpressureException("full"));
+
+        sender.await(List.of(delivered));
+        var ex = assertThrows(KafkaDeliveryException.class, () -> sender.await(List.of(delivered, failed)));
+        assertEquals("broker down", ex.getCause().getMessage());
+        assertThrows(KafkaBackpressureException.class, () -> sender.await(List.of(rejected)));
+    }
+}
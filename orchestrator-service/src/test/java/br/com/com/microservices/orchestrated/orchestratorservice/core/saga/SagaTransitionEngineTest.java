@@ -0,0 +1,66 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.ValidationException;
+import br.com.com.microservices.orchestrated.orchestratorservice.config.saga.SagaDefinitionProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static br.com.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.*;
+import static br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.*;
+import static br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SagaTransitionEngineTest {
+
+    private static SagaDefinitionProperties properties() {
+        var properties = new SagaDefinitionProperties();
+        properties.setDefaultType("order");
+        properties.setDefinitions(Map.of(
+                "order", List.of(
+                        new SagaTransition(ORCHESTRATOR, SUCCESS, PRODUCT_VALIDATION_SUCCESS),
+                        new SagaTransition(PAYMENT_SERVICE, FAIL, PRODUCT_VALIDATION_FAIL),
+                        new SagaTransition(INVENTORY_SERVICE, SUCCESS, FINISH_SUCCESS)),
+                "payment-only", List.of(
+                        new SagaTransition(ORCHESTRATOR, SUCCESS, PAYMENT_SUCCESS),
+                        new SagaTransition(PAYMENT_SERVICE, SUCCESS, FINISH_SUCCESS))));
+        return properties;
+    }
+
+    @Test
+    void resolvesTransitionsOfEachSagaType() {
+        var engine = new SagaTransitionEngine(properties());
+
+        assertEquals(PRODUCT_VALIDATION_SUCCESS, engine.nextTopic("order", ORCHESTRATOR, SUCCESS));
+        assertEquals(PRODUCT_VALIDATION_FAIL, engine.nextTopic("order", PAYMENT_SERVICE, FAIL));
+        assertEquals(PAYMENT_SUCCESS, engine.nextTopic("payment-only", ORCHESTRATOR, SUCCESS));
+        assertEquals(FINISH_SUCCESS, engine.nextTopic("payment-only", PAYMENT_SERVICE, SUCCESS));
+    }
+
+    @Test
+    void fallsBackToDefaultSagaWhenTypeIsNotInformed() {
+        var engine = new SagaTransitionEngine(properties());
+
+        assertEquals(FINISH_SUCCESS, engine.nextTopic(null, INVENTORY_SERVICE, SUCCESS));
+    }
+
+    @Test
+    void rejectsUndeclaredTransitionsAndSagaTypes() {
+        var engine = new SagaTransitionEngine(properties());
+
+        assertThrows(ValidationException.class, () -> engine.nextTopic("order", INVENTORY_SERVICE, FAIL));
+        assertThrows(ValidationException.class, () -> engine.nextTopic("unknown", ORCHESTRATOR, SUCCESS));
+    }
+
+    @Test
+    void rejectsDuplicatedTransitionsAtStartup() {
+        var properties = properties();
+        properties.setDefinitions(Map.of("order", List.of(
+                new SagaTransition(ORCHESTRATOR, SUCCESS, PRODUCT_VALIDATION_SUCCESS),
+                new SagaTransition(ORCHESTRATOR, SUCCESS, FINISH_FAIL))));
+
+        assertThrows(IllegalStateException.class, () -> new SagaTransitionEngine(properties));
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.tracker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 10;
+
+    @Test
+    void expiresTimeoutsOnTheirDeadlineAcrossLevels() {
+        var wheel = new HierarchicalTimingWheel<Long>(TICK_MS, 8, 0);
+        var deadlines = List.of(30L, 70L, 80L, 650L, 5_130L, 41_000L);
+        deadlines.forEach(deadline -> wheel.schedule(deadline, deadline));
+
+        var expiredAt = new ArrayList<long[]>();
+        for (var now = 0L; now <= 50_000; now += TICK_MS) {
+            var current = now;
+            wheel.advance(now, timeout -> expiredAt.add(new long[]{timeout.value(), current}));
+        }
+
+        assertEquals(deadlines.size(), expiredAt.size());
+        expiredAt.forEach(pair -> assertEquals(pair[0], pair[1]));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancelledTimeoutsNeverExpire() {
+        var wheel = new HierarchicalTimingWheel<String>(TICK_MS, 8, 0);
+        var kept = wheel.schedule("kept", 200);
+        var cancelled = wheel.schedule("cancelled", 200);
+
+        assertTrue(wheel.cancel(cancelled));
+        var expired = new ArrayList<String>();
+        wheel.advance(1_000, timeout -> expired.add(timeout.value()));
+
+        assertEquals(List.of(kept.value()), expired);
+    }
+
+    @Test
+    void pastDeadlinesExpireOnTheNextTick() {
+        var wheel = new HierarchicalTimingWheel<String>(TICK_MS, 8, 1_000);
+        wheel.schedule("late", 500);
+        var expired = new ArrayList<String>();
+
+        wheel.advance(1_010, timeout -> expired.add(timeout.value()));
+
+        assertEquals(List.of("late"), expired);
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.core.tracker;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.SagaRoute;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static br.com.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.PAYMENT_SERVICE;
+import static br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.INVENTORY_SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InFlightSagaTrackerTest {
+
+    private static final long STEP_TIMEOUT_MS = 50;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InFlightSagaTracker tracker = new InFlightSagaTracker(new SagaMetrics(meterRegistry), true, STEP_TIMEOUT_MS, 10, 64, 2, 1);
+
+    @Test
+    void fencesRepliesArrivingAfterTheSagaTimedOut() {
+        assertTrue(tracker.track(route("tx-1"), INVENTORY_SUCCESS));
+
+        assertEquals(1, tracker.expire(System.currentTimeMillis() + STEP_TIMEOUT_MS * 10).size());
+
+        assertTrue(tracker.isFenced("tx-1"));
+        assertFalse(tracker.track(route("tx-1"), INVENTORY_SUCCESS));
+        assertFalse(tracker.complete("tx-1", ESagaStatus.SUCCESS));
+        assertEquals(0, tracker.count());
+        assertEquals(3, meterRegistry.get("saga.late.replies").counter().count());
+    }
+
+    @Test
+    void sendsOnlyTheFirstEndingOfASaga() {
+        tracker.track(route("tx-1"), INVENTORY_SUCCESS);
+
+        assertTrue(tracker.complete("tx-1", ESagaStatus.FAIL));
+        assertFalse(tracker.complete("tx-1", ESagaStatus.SUCCESS));
+    }
+
+    @Test
+    void keepsABoundedNumberOfTombstones() {
+        tracker.complete("tx-1", ESagaStatus.SUCCESS);
+        tracker.complete("tx-2", ESagaStatus.SUCCESS);
+        tracker.complete("tx-3", ESagaStatus.SUCCESS);
+
+        assertFalse(tracker.isFenced("tx-1"));
+        assertTrue(tracker.isFenced("tx-3"));
+    }
+
+    @Test
+    void handsOverTheDeadlineWithThePartition() {
+        tracker.track(route("tx-1"), INVENTORY_SUCCESS);
+        var checkpoint = tracker.checkpoint("tx-1").orElseThrow();
+
+        tracker.release(List.of(0));
+        assertEquals(0, tracker.count());
+        assertTrue(tracker.expire(System.currentTimeMillis() + STEP_TIMEOUT_MS * 10).isEmpty());
+
+        tracker.restore(checkpoint);
+        var expired = tracker.expire(System.currentTimeMillis() + STEP_TIMEOUT_MS * 20);
+        assertEquals(1, expired.size());
+        assertEquals(INVENTORY_SUCCESS, expired.get(0).getPendingTopic());
+        assertTrue(tracker.checkpoint("tx-1").orElseThrow().ended());
+    }
+
+    private static SagaRoute route(String transactionId) {
+        return new SagaRoute(transactionId, "order-1", "order", PAYMENT_SERVICE, ESagaStatus.SUCCESS);
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.com.microservices.orchestrated.orchestratorservice.utils;
+
+import br.com.com.microservices.orchestrated.orchestratorservice.config.exception.CodecException;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
+import br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ECodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static br.com.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.PAYMENT_SERVICE;
+import static br.com.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventCodecTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private static Event event() {
+        return Event
+                .builder()
+                .id("1")
+                .transactionId("tx-1")
+                .orderId("order-1")
+                .source(PAYMENT_SERVICE)
+                .status(SUCCESS)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+    }
+
+    private static ConsumerRecord<String, byte[]> record(byte[] payload, String contentType) {
+        var record = new ConsumerRecord<>("orchestrator", 0, 0L, "tx-1", payload);
+        if (contentType != null) {
+            record.headers().add(SagaHeaders.CONTENT_TYPE, contentType.getBytes(StandardCharsets.UTF_8));
+        }
+        return record;
+    }
+
+    @Test
+    void decodesByContentTypeHeaderRegardlessOfConfiguredCodec() {
+        var smile = new EventCodec(MAPPER, ECodec.SMILE);
+        var json = new EventCodec(MAPPER, ECodec.JSON);
+
+        var smilePayload = smile.encode(event());
+        var jsonPayload = json.encode(event());
+
+        assertEquals(event(), json.decode(record(smilePayload, smile.contentType()), Event.class));
+        assertEquals(event(), smile.decode(record(jsonPayload, json.contentType()), Event.class));
+    }
+
+    @Test
+    void treatsRecordsWithoutContentTypeAsJson() {
+        var codec = new EventCodec(MAPPER, ECodec.SMILE);
+        var payload = new EventCodec(MAPPER, ECodec.JSON).encode(event());
+
+        assertEquals(event(), codec.decode(record(payload, null), Event.class));
+    }
+
+    @Test
+    void surfacesDecodeFailures() {
+        var codec = new EventCodec(MAPPER, ECodec.JSON);
+
+        assertThrows(CodecException.class,
+                () -> codec.decode(record("not json".getBytes(StandardCharsets.UTF_8), null), Event.class));
+        assertThrows(CodecException.class,
+                () -> codec.decode(record(new byte[0], "application/xml"), Event.class));
+        assertThrows(CodecException.class, () -> codec.decode(record(null, null), Event.class));
+    }
+}
@@ -0,0 +1,66 @@
+// Compares the servlet and reactive builds under the same load:
+//   java -jar build/libs/order-service-0.0.1-SNAPSHOT.jar                   (servlet)
+//   java -jar build/libs/reactive/order-service-0.0.1-SNAPSHOT-reactive.jar (reactive)
+//   k6 run -e BASE_URL=http://localhost:3000 -e RATE=500 load/order-load.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:3000';
+const RATE = Number(__ENV.RATE || 200);
+const DURATION = __ENV.DURATION || '2m';
+const PRODUCTS = ['COMIC_BOOKS', 'BOOKS', 'MOVIES', 'MUSIC'];
+
+export const options = {
+    scenarios: {
+        create: {
+            executor: 'constant-arrival-rate',
+            exec: 'createOrder',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+            maxVUs: 1000,
+        },
+        poll: {
+            executor: 'constant-arrival-rate',
+            exec: 'pollOrder',
+            rate: RATE * 4,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+            maxVUs: 1000,
+        },
+    },
+    thresholds: {
+        'http_req_failed': ['rate<0.01'],
+        'http_req_duration{scenario:create}': ['p(99)<500'],
+        'http_req_duration{scenario:poll}': ['p(99)<200'],
+    },
+};
+
+const created = [];
+
+export function createOrder() {
+    const product = PRODUCTS[Math.floor(Math.random() * PRODUCTS.length)];
+    const body = JSON.stringify({
+        products: [{ product: { code: product, unitValue: 10.0 }, quantity: 1 + Math.floor(Math.random() * 3) }],
+    });
+    const res = http.post(`${BASE_URL}/api/order`, body, { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'order created': (r) => r.status === 200 || r.status === 202 });
+    if (res.status === 200 || res.status === 202) {
+        const order = res.json();
+        created.push(order.id || order.orderId);
+        if (created.length > 1000) {
+            created.shift();
+        }
+    }
+}
+
+export function pollOrder() {
+    if (created.length === 0) {
+        return;
+    }
+    const orderId = created[Math.floor(Math.random() * created.length)];
+    const res = http.get(`${BASE_URL}/api/event?orderId=${orderId}`);
+    check(res, { 'event found': (r) => r.status === 200 || r.status === 304 || r.status === 400 });
+}
@@ -0,0 +1,48 @@
+package br.com.microservices.orchestrated.orderservice.core.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the previous "epochMillis_uuid" transaction id with the generated ids, with 4 threads sharing
+ * one generator as request threads do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@Threads(4)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator snowflake = new SnowflakeIdGenerator(1);
+    private final IdGenerator ulid = new UlidIdGenerator();
+
+    @Benchmark
+    public String formattedUuid() {
+        return String.format("%s_%s", Instant.now().toEpochMilli(), UUID.randomUUID());
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    public String ulid() {
+        return ulid.nextId();
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.microservices.orchestrated.orderservice.core.repository;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.document.OrderProducts;
+import br.com.microservices.orchestrated.orderservice.core.document.Product;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a seeded event collection on an embedded mongod three ways: the old list load of
+ * {@code GET /api/event/all}, the cursor stream behind the streaming endpoints, and keyset pages.
+ * Needs network access on first run to download the mongod binary. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class EventListingBenchmark {
+
+    private static final int SEED_BATCH_SIZE = 5000;
+    private static final int PAGE_SIZE = 500;
+
+    @Param({"100000"})
+    private int events;
+
+    private TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private EventRepositoryCustomImpl repository;
+
+    @Setup
+    public void setup() {
+        mongod = Mongod.instance().start(Version.Main.V7_0);
+        client = MongoClients.create("mongodb://" + mongod.current().getServerAddress());
+        mongoTemplate = new MongoTemplate(client, "event-benchmark");
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(Event.class)
+                .forEach(mongoTemplate.indexOps(Event.class)::ensureIndex);
+        repository = new EventRepositoryCustomImpl(mongoTemplate);
+        seed();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        mongod.close();
+    }
+
+    @Benchmark
+    public void loadAllIntoList(Blackhole blackhole) {
+        var query = new Query().with(Sort.by(Sort.Direction.DESC, "createdAt"));
+        blackhole.consume(mongoTemplate.find(query, Event.class));
+    }
+
+    @Benchmark
+    public void streamCursor(Blackhole blackhole) {
+        try (var stream = repository.streamAllByOrderByCreatedAtDesc()) {
+            stream.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void keysetPages(Blackhole blackhole) {
+        var page = repository.findPageAfter(null, null, PAGE_SIZE);
+        while (!page.isEmpty()) {
+            blackhole.consume(page);
+            var last = page.get(page.size() - 1);
+            page = repository.findPageAfter(last.getCreatedAt(), last.getId(), PAGE_SIZE);
+        }
+    }
+
+    private void seed() {
+        var now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        var batch = new ArrayList<Event>(SEED_BATCH_SIZE);
+        for (int i = 0; i < events; i++) {
+            batch.add(event(now.minus(i / 3, ChronoUnit.MILLIS)));
+            if (batch.size() == SEED_BATCH_SIZE) {
+                mongoTemplate.insert(batch, Event.class);
+                batch.clear();
+            }
+        }
+        mongoTemplate.insert(batch, Event.class);
+    }
+
+    private static Event event(LocalDateTime createdAt) {
+        var order = Order
+                .builder()
+                .id(UUID.randomUUID().toString())
+                .transactionId(UUID.randomUUID().toString())
+                .products(List.of(new OrderProducts(new Product("BOOKS", "10.0"), 2)))
+                .totalAmount(20.0)
+                .totalItems(2)
+                .createdAt(createdAt)
+                .build();
+        return Event
+                .builder()
+                .orderId(order.getId())
+                .transactionId(order.getTransactionId())
+                .payload(order)
+                .source("ORCHESTRATOR")
+                .status("SUCCESS")
+                .createdAt(createdAt)
+                .build();
+    }
+}
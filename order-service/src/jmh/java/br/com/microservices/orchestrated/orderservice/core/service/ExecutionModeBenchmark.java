@@ -0,0 +1,105 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.core.document.OrderProducts;
+import br.com.microservices.orchestrated.orderservice.core.document.OutboxMessage;
+import br.com.microservices.orchestrated.orderservice.core.document.Product;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.id.SnowflakeIdGenerator;
+import br.com.microservices.orchestrated.orderservice.core.repository.OrderRepository;
+import br.com.microservices.orchestrated.orderservice.core.repository.OutboxRepository;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares request throughput of the platform-thread and virtual-thread execution modes on the write path of
+ * {@code POST /api/order}: {@link OrderService#createOrder} in outbox mode, inserting into an embedded mongod
+ * through a client pool sized like the service's default. The platform pool matches Tomcat's default of 200
+ * threads. The request count is a constant because {@link OperationsPerInvocation} must match it for
+ * per-request scores. Needs network access on first run to download the mongod binary. Run with
+ * {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class ExecutionModeBenchmark {
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final int CONCURRENT_REQUESTS = 2000;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"50"})
+    private int mongoPoolSize;
+
+    private TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private OrderService orderService;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        mongod = Mongod.instance().start(Version.Main.V7_0);
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString("mongodb://" + mongod.current().getServerAddress()))
+                .applyToConnectionPoolSettings(pool -> pool.maxSize(mongoPoolSize))
+                .build());
+        mongoTemplate = new MongoTemplate(client, "order-benchmark");
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(OutboxMessage.class)
+                .forEach(mongoTemplate.indexOps(OutboxMessage.class)::ensureIndex);
+        var repositories = new MongoRepositoryFactory(mongoTemplate);
+        orderService = new OrderService(repositories.getRepository(OrderRepository.class),
+                repositories.getRepository(OutboxRepository.class), null, null, mongoTemplate,
+                new SnowflakeIdGenerator(1));
+        var outboxEnabled = ReflectionUtils.findField(OrderService.class, "outboxEnabled");
+        ReflectionUtils.makeAccessible(outboxEnabled);
+        ReflectionUtils.setField(outboxEnabled, orderService, true);
+        executor = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        client.close();
+        mongod.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_REQUESTS)
+    public void handleRequests() throws InterruptedException, ExecutionException {
+        var futures = new ArrayList<Future<?>>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            futures.add(executor.submit(() -> orderService.createOrder(
+                    new OrderRequest(List.of(new OrderProducts(new Product("BOOKS", "10.0"), 2))))));
+        }
+        for (var future : futures) {
+            future.get();
+        }
+    }
+}
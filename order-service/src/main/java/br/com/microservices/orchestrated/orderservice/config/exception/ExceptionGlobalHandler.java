@@ -15,4 +15,10 @@ public class ExceptionGlobalHandler {
         var details = new ExceptionDetails(HttpStatus.BAD_REQUEST.value(), validationException.getMessage());
         return new ResponseEntity<>(details, HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(OrderBatchException.class)
+    public ResponseEntity<?> handleOrderBatchException(OrderBatchException batchException) {
+        var details = new OrderBatchErrorDetails(HttpStatus.BAD_REQUEST.value(), batchException.getMessage(), batchException.getResults());
+        return new ResponseEntity<>(details, HttpStatus.BAD_REQUEST);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package br.com.microservices.orchestrated.orderservice.config.exception;
+
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderResult;
+
+import java.util.List;
+
+public record OrderBatchErrorDetails(int status, String message, List<OrderResult> results) {
+}
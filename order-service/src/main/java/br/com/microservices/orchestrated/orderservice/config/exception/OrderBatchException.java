@@ -0,0 +1,20 @@
+package br.com.microservices.orchestrated.orderservice.config.exception;
+
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderResult;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * A batch that stopped on a bad element or over the limit, with the results of the orders written before it.
+ */
+@Getter
+public class OrderBatchException extends ValidationException {
+
+    private final List<OrderResult> results;
+
+    public OrderBatchException(String message, List<OrderResult> results) {
+        super(message);
+        this.results = List.copyOf(results);
+    }
+}
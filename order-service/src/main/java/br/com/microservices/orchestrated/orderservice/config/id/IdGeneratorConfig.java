@@ -0,0 +1,67 @@
+package br.com.microservices.orchestrated.orderservice.config.id;
+
+import br.com.microservices.orchestrated.orderservice.core.enums.EIdStrategy;
+import br.com.microservices.orchestrated.orderservice.core.id.IdGenerator;
+import br.com.microservices.orchestrated.orderservice.core.id.LeasedIdGenerator;
+import br.com.microservices.orchestrated.orderservice.core.id.SnowflakeIdGenerator;
+import br.com.microservices.orchestrated.orderservice.core.id.UlidIdGenerator;
+import br.com.microservices.orchestrated.orderservice.core.id.WorkerIdLease;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Snowflake ids use order.id.worker-id when it is set; otherwise a worker id is leased from Mongo. Startup
+ * fails when neither is possible, since two instances sharing a worker id would generate duplicate ids.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Value("${order.id.strategy}")
+    private EIdStrategy strategy;
+
+    @Value("${order.id.worker-id}")
+    private long workerId;
+
+    @Value("${order.id.lease.ttl-ms}")
+    private long leaseTtlMs;
+
+    @Value("${order.id.lease.renew-ms}")
+    private long leaseRenewMs;
+
+    private WorkerIdLease lease;
+
+    @Bean
+    public IdGenerator idGenerator(MongoTemplate mongoTemplate) {
+        if (strategy == EIdStrategy.ULID) {
+            return new UlidIdGenerator();
+        }
+        if (workerId >= 0) {
+            return new SnowflakeIdGenerator(workerId);
+        }
+        if (leaseRenewMs >= leaseTtlMs) {
+            throw new IllegalStateException("order.id.lease.renew-ms must be shorter than order.id.lease.ttl-ms");
+        }
+        lease = new WorkerIdLease(mongoTemplate, Duration.ofMillis(leaseTtlMs));
+        return new LeasedIdGenerator(new SnowflakeIdGenerator(lease.acquire()), lease::isHeld);
+    }
+
+    @Scheduled(fixedDelayString = "${order.id.lease.renew-ms}", initialDelayString = "${order.id.lease.renew-ms}")
+    public void renewLease() {
+        if (lease != null) {
+            lease.renew();
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (lease != null) {
+            lease.release();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.microservices.orchestrated.orderservice.config.kafka;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "spring.kafka.delivery")
+public class KafkaDeliveryProperties {
+    public static final String DEFAULT_PROFILE = "default";
+
+    private int maxInFlight = 1000;
+    private long acquireTimeoutMs = 5000;
+    private Map<String, Profile> profiles = new LinkedHashMap<>();
+    private Map<String, String> topics = new LinkedHashMap<>();
+
+    public String profileFor(String topic) {
+        return topics.getOrDefault(topic, DEFAULT_PROFILE);
+    }
+
+    @Data
+    public static class Profile {
+        private int lingerMs = 5;
+        private int batchSize = 16384;
+        private String compressionType = "none";
+        private boolean enableIdempotence = true;
+        private String acks = "all";
+        private int deliveryTimeoutMs = 120000;
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.microservices.orchestrated.orderservice.config.mongo;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.micrometer.common.util.StringUtils.isEmpty;
+
+/**
+ * Writes, and the lookups that must see them (latest event and status of one order), go through the primary
+ * {@link MongoTemplate}. List and report queries use {@value #READ_TEMPLATE}, which routes to secondaries (or
+ * to a dedicated reporting replica when a read uri is set) with bounded staleness.
+ */
+@Configuration
+public class MongoConfig implements DisposableBean {
+
+    public static final String READ_TEMPLATE = "readMongoTemplate";
+
+    private static final long MIN_MAX_STALENESS_SECONDS = 90;
+
+    @Value("${spring.data.mongodb.pool.max-size}")
+    private int maxPoolSize;
+
+    @Value("${spring.data.mongodb.pool.min-size}")
+    private int minPoolSize;
+
+    @Value("${spring.data.mongodb.pool.max-wait-ms}")
+    private long maxWaitMs;
+
+    @Value("${spring.data.mongodb.database}")
+    private String database;
+
+    @Value("${spring.data.mongodb.read.uri}")
+    private String readUri;
+
+    @Value("${spring.data.mongodb.read.preference}")
+    private String readPreference;
+
+    @Value("${spring.data.mongodb.read.max-staleness-seconds}")
+    private long maxStalenessSeconds;
+
+    private MongoClient readClient;
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer() {
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxPoolSize)
+                .minSize(minPoolSize)
+                .maxWaitTime(maxWaitMs, TimeUnit.MILLISECONDS));
+    }
+
+    @Bean
+    @Primary
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory factory, MongoConverter converter) {
+        return new MongoTemplate(factory, converter);
+    }
+
+    @Bean(READ_TEMPLATE)
+    public MongoTemplate readMongoTemplate(MongoDatabaseFactory factory, MongoConverter converter) {
+        var template = new MongoTemplate(isEmpty(readUri) ? factory : readDatabaseFactory(), converter);
+        template.setReadPreference(readPreference());
+        return template;
+    }
+
+    @Override
+    public void destroy() {
+        if (readClient != null) {
+            readClient.close();
+        }
+    }
+
+    private MongoDatabaseFactory readDatabaseFactory() {
+        var connectionString = new ConnectionString(readUri);
+        var settings = MongoClientSettings.builder().applyConnectionString(connectionString);
+        connectionPoolCustomizer().customize(settings);
+        readClient = MongoClients.create(settings.build());
+        var readDatabase = connectionString.getDatabase();
+        return new SimpleMongoClientDatabaseFactory(readClient, readDatabase == null ? database : readDatabase);
+    }
+
+    private ReadPreference readPreference() {
+        if (ReadPreference.primary().getName().equalsIgnoreCase(readPreference)) {
+            return ReadPreference.primary();
+        }
+        if (maxStalenessSeconds <= 0) {
+            return ReadPreference.valueOf(readPreference);
+        }
+        if (maxStalenessSeconds < MIN_MAX_STALENESS_SECONDS) {
+            throw new IllegalStateException("spring.data.mongodb.read.max-staleness-seconds must be at least "
+                    + MIN_MAX_STALENESS_SECONDS + " or disabled with -1");
+        }
+        return ReadPreference.valueOf(readPreference, List.of(), maxStalenessSeconds, TimeUnit.SECONDS);
+    }
+}
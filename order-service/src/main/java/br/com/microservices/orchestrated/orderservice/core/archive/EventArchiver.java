@@ -0,0 +1,83 @@
+package br.com.microservices.orchestrated.orderservice.core.archive;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import com.mongodb.client.model.CreateCollectionOptions;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Moves ended saga events older than {@code order.archive.max-age} from the hot event collection into
+ * {@value #ARCHIVE_COLLECTION}, which WiredTiger stores with zstd block compression. Events are copied with
+ * idempotent upserts before being deleted, so an interrupted pass only repeats work.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "order.archive.enabled", havingValue = "true")
+public class EventArchiver {
+
+    public static final String ARCHIVE_COLLECTION = "event_archive";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${order.archive.max-age}")
+    private Duration maxAge;
+
+    @Value("${order.archive.batch-size}")
+    private int batchSize;
+
+    @PostConstruct
+    public void createArchiveCollection() {
+        if (!mongoTemplate.collectionExists(ARCHIVE_COLLECTION)) {
+            var zstd = new Document("wiredTiger", new Document("configString", "block_compressor=zstd"));
+            mongoTemplate.getDb().createCollection(ARCHIVE_COLLECTION, new CreateCollectionOptions().storageEngineOptions(zstd));
+        }
+        var indexes = mongoTemplate.indexOps(ARCHIVE_COLLECTION);
+        indexes.ensureIndex(new Index().on("orderId", Sort.Direction.ASC).on("createdAt", Sort.Direction.DESC));
+        indexes.ensureIndex(new Index().on("transactionId", Sort.Direction.ASC).on("createdAt", Sort.Direction.DESC));
+    }
+
+    @Scheduled(fixedDelayString = "${order.archive.interval-ms}")
+    public void archive() {
+        var cutoff = LocalDateTime.now().minus(maxAge);
+        var archived = 0;
+        List<Event> batch;
+        do {
+            batch = mongoTemplate.find(query(where("createdAt").lt(cutoff).and("status").ne(null))
+                    .with(Sort.by(Sort.Direction.ASC, "createdAt"))
+                    .limit(batchSize), Event.class);
+            if (!batch.isEmpty()) {
+                move(batch);
+                archived += batch.size();
+            }
+        } while (batch.size() == batchSize);
+        if (archived > 0) {
+            log.info("Archived {} saga events created before {}", archived, cutoff);
+        }
+    }
+
+    private void move(List<Event> batch) {
+        var copies = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Event.class, ARCHIVE_COLLECTION);
+        batch.forEach(event -> copies.replaceOne(query(where("_id").is(event.getId())), event, FindAndReplaceOptions.options().upsert()));
+        copies.execute();
+        mongoTemplate.remove(query(where("_id").in(batch.stream().map(Event::getId).toList())), Event.class);
+    }
+}
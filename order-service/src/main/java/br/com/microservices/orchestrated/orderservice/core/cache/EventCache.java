@@ -0,0 +1,92 @@
+package br.com.microservices.orchestrated.orderservice.core.cache;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static io.micrometer.common.util.StringUtils.isEmpty;
+
+/**
+ * Latest saga event per orderId and transactionId. Concurrent misses for the same key share a single
+ * Mongo lookup. Events that have not ended yet expire quickly, because the notify-ending record may be
+ * consumed by another instance of the group.
+ */
+@Component
+public class EventCache {
+
+    private static final String ORDER_KEY = "order:";
+    private static final String TRANSACTION_KEY = "transaction:";
+
+    private final Cache<String, Event> cache;
+
+    public EventCache(@Value("${order.event-cache.maximum-size}") long maximumSize,
+                      @Value("${order.event-cache.pending-ttl-ms}") long pendingTtlMs,
+                      @Value("${order.event-cache.final-ttl-ms}") long finalTtlMs,
+                      MeterRegistry meterRegistry) {
+        var pendingTtl = TimeUnit.MILLISECONDS.toNanos(pendingTtlMs);
+        var finalTtl = TimeUnit.MILLISECONDS.toNanos(finalTtlMs);
+        this.cache = Caffeine
+                .newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Event>() {
+                    @Override
+                    public long expireAfterCreate(String key, Event event, long currentTime) {
+                        return isEmpty(event.getStatus()) ? pendingTtl : finalTtl;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Event event, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, event, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Event event, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "event.lookup");
+    }
+
+    public Event getByOrderId(String orderId, Supplier<Event> loader) {
+        var event = cache.get(ORDER_KEY + orderId, key -> loader.get());
+        cache.asMap().putIfAbsent(TRANSACTION_KEY + event.getTransactionId(), event);
+        return event;
+    }
+
+    public Event getByTransactionId(String transactionId, Supplier<Event> loader) {
+        var event = cache.get(TRANSACTION_KEY + transactionId, key -> loader.get());
+        cache.asMap().putIfAbsent(ORDER_KEY + event.getOrderId(), event);
+        return event;
+    }
+
+    public void put(Event event) {
+        if (!isEmpty(event.getOrderId())) {
+            cache.put(ORDER_KEY + event.getOrderId(), event);
+        }
+        if (!isEmpty(event.getTransactionId())) {
+            cache.put(TRANSACTION_KEY + event.getTransactionId(), event);
+        }
+    }
+
+    public void evict(Event event) {
+        cache.invalidate(ORDER_KEY + event.getOrderId());
+        cache.invalidate(TRANSACTION_KEY + event.getTransactionId());
+    }
+
+    public void evictTransaction(String transactionId) {
+        var event = cache.asMap().remove(TRANSACTION_KEY + transactionId);
+        if (event != null) {
+            cache.invalidate(ORDER_KEY + event.getOrderId());
+        }
+    }
+}
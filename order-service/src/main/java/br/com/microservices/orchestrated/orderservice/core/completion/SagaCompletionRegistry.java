@@ -0,0 +1,47 @@
+package br.com.microservices.orchestrated.orderservice.core.completion;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Clients waiting for a saga to end, keyed by orderId. Registering and completing both go through the map's
+ * per-key atomic operations, so a waiter is either notified by {@link #complete(Event)} or still registered.
+ */
+@Component
+public class SagaCompletionRegistry {
+
+    private final Map<String, Set<Consumer<Event>>> waiters = new ConcurrentHashMap<>();
+
+    public SagaCompletionRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("saga.completion.waiters", waiters, Map::size).register(meterRegistry);
+    }
+
+    public void register(String orderId, Consumer<Event> waiter) {
+        waiters.compute(orderId, (key, current) -> {
+            var registered = current == null ? ConcurrentHashMap.<Consumer<Event>>newKeySet() : current;
+            registered.add(waiter);
+            return registered;
+        });
+    }
+
+    public void unregister(String orderId, Consumer<Event> waiter) {
+        waiters.computeIfPresent(orderId, (key, current) -> {
+            current.remove(waiter);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    public void complete(Event event) {
+        var completed = waiters.remove(event.getOrderId());
+        if (completed != null) {
+            completed.forEach(waiter -> waiter.accept(event));
+        }
+    }
+}
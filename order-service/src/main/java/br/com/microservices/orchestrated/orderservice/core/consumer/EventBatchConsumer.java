@@ -0,0 +1,44 @@
+package br.com.microservices.orchestrated.orderservice.core.consumer;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.CodecException;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.service.EventService;
+import br.com.microservices.orchestrated.orderservice.utils.EventCodec;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "spring.kafka.consumer.batch.enabled", havingValue = "true")
+public class EventBatchConsumer {
+
+    private final EventCodec codec;
+
+    private final EventService eventService;
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            topics = "${spring.kafka.topic.notify-ending}"
+    )
+    public void consumerNotifyEndingEvents(List<ConsumerRecord<String, byte[]>> records) {
+        log.info("Received batch of {} ending notification events from notify-ending topic", records.size());
+        var events = new ArrayList<Event>(records.size());
+        records.forEach(record -> {
+            try {
+                events.add(codec.decode(record, Event.class));
+            } catch (CodecException ex) {
+                log.error("Skipping undecodable ending notification {} at offset {}", record.key(), record.offset(), ex);
+            }
+        });
+        eventService.notifyEndings(events);
+    }
+}
@@ -1,9 +1,12 @@
 package br.com.microservices.orchestrated.orderservice.core.consumer;
 
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.History;
 import br.com.microservices.orchestrated.orderservice.core.service.EventService;
-import br.com.microservices.orchestrated.orderservice.utils.JsonUtil;
+import br.com.microservices.orchestrated.orderservice.utils.EventCodec;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -12,16 +15,26 @@ import org.springframework.stereotype.Component;
 @AllArgsConstructor
 public class EventConsumer {
 
-    private final JsonUtil jsonUtil;
+    private final EventCodec codec;
 
     private final EventService eventService;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.notify-ending}"
+            topics = "${spring.kafka.topic.notify-ending}",
+            autoStartup = "#{!${spring.kafka.consumer.batch.enabled}}"
     )
-    public void consumerNotifyEndingEvent(String payload){
-        log.info("Received ending notification event {} from notify-ending topic", payload);
-        eventService.notifyEnding(jsonUtil.toEvent(payload));
+    public void consumerNotifyEndingEvent(ConsumerRecord<String, byte[]> record) {
+        log.info("Received ending notification event {} from notify-ending topic", record.key());
+        eventService.notifyEnding(codec.decode(record, Event.class));
+    }
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.saga-history}"
+    )
+    public void consumerSagaHistoryEvent(ConsumerRecord<String, byte[]> record){
+        log.info("Received history entry for transaction {} from saga-history topic", record.key());
+        eventService.appendHistory(record.key(), codec.decode(record, History.class));
     }
 }
@@ -2,13 +2,18 @@ package br.com.microservices.orchestrated.orderservice.core.controller;
 
 import br.com.microservices.orchestrated.orderservice.core.document.Event;
 import br.com.microservices.orchestrated.orderservice.core.dto.EventFilter;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventPage;
 import br.com.microservices.orchestrated.orderservice.core.service.EventService;
 import lombok.AllArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @AllArgsConstructor
@@ -18,11 +23,50 @@ public class EventController {
     private final EventService eventService;
 
     @GetMapping
-    public Event findByFilter(EventFilter filters){
-        return  eventService.findByFilter(filters);
+    public ResponseEntity<Event> findByFilter(EventFilter filters, WebRequest request){
+        var event = eventService.findByFilter(filters);
+        var eTag = eTag(event);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity
+                .ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .body(event);
     }
+
     @GetMapping("all")
-    public List<Event> findAll(){
-        return eventService.findAll();
+    public ResponseEntity<StreamingResponseBody> findAll(){
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(eventService::writeAll);
+    }
+
+    @GetMapping("page")
+    public EventPage findPage(@RequestParam(required = false) String cursor,
+                              @RequestParam(defaultValue = "50") int size){
+        return eventService.findPage(cursor, size);
+    }
+
+    @GetMapping("search")
+    public EventPage search(EventFilter filters,
+                            @RequestParam(required = false) String cursor,
+                            @RequestParam(defaultValue = "50") int size){
+        return eventService.search(filters, cursor, size);
+    }
+
+    @GetMapping("stream")
+    public ResponseEntity<StreamingResponseBody> stream(){
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(eventService::writeNdjson);
+    }
+
+    private static String eTag(Event event) {
+        var historySize = event.getEventHistory() == null ? 0 : event.getEventHistory().size();
+        return String.format("\"%s-%s-%s-%d\"", event.getId(), event.getStatus(), event.getCreatedAt(), historySize);
     }
 }
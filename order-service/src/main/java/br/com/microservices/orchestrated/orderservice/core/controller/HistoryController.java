@@ -0,0 +1,30 @@
+package br.com.microservices.orchestrated.orderservice.core.controller;
+
+import br.com.microservices.orchestrated.orderservice.core.document.SagaHistoryEntry;
+import br.com.microservices.orchestrated.orderservice.core.service.SagaHistoryService;
+import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/history")
+public class HistoryController {
+
+    private final SagaHistoryService historyService;
+
+    @GetMapping
+    public List<SagaHistoryEntry> search(@RequestParam(required = false) String source,
+                                         @RequestParam(required = false) String status,
+                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                         @RequestParam(defaultValue = "100") int limit){
+        return historyService.search(source, status, from, to, limit);
+    }
+}
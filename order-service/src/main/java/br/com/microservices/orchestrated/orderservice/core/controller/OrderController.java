@@ -1,22 +1,76 @@
 package br.com.microservices.orchestrated.orderservice.core.controller;
 
-import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.OrderStatus;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderAccepted;
 import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderResult;
+import br.com.microservices.orchestrated.orderservice.core.intake.OrderIntakeQueue;
+import br.com.microservices.orchestrated.orderservice.core.service.OrderBatchService;
 import br.com.microservices.orchestrated.orderservice.core.service.OrderService;
-import lombok.AllArgsConstructor;
+import br.com.microservices.orchestrated.orderservice.core.service.OrderStatusService;
+import br.com.microservices.orchestrated.orderservice.core.service.SagaCompletionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.InputStream;
+import java.util.List;
 
 @RestController
-@AllArgsConstructor
+@RequiredArgsConstructor
 @RequestMapping("/api/order")
 public class OrderController {
 
     private final OrderService service;
+    private final OrderBatchService batchService;
+    private final SagaCompletionService completionService;
+    private final OrderStatusService statusService;
+    private final ObjectProvider<OrderIntakeQueue> intakeQueue;
+
     @PostMapping
-    public Order createOrder(@RequestBody OrderRequest order){
-        return service.createOrder(order);
+    public ResponseEntity<?> createOrder(@RequestBody OrderRequest order){
+        var intake = intakeQueue.getIfAvailable();
+        if (intake != null) {
+            var accepted = intake.accept(order);
+            return ResponseEntity
+                    .accepted()
+                    .body(new OrderAccepted(accepted.getId(), accepted.getTransactionId()));
+        }
+        return ResponseEntity.ok(service.createOrder(order));
+    }
+
+    @GetMapping("{id}/status")
+    public OrderStatus getStatus(@PathVariable String id){
+        return statusService.findByOrderId(id);
+    }
+
+    @PostMapping("status")
+    public List<OrderStatus> getStatuses(@RequestBody List<String> orderIds){
+        return statusService.findByOrderIds(orderIds);
+    }
+
+    @GetMapping("{id}/completion")
+    public DeferredResult<ResponseEntity<Event>> awaitCompletion(@PathVariable String id){
+        return completionService.awaitCompletion(id);
+    }
+
+    @GetMapping(value = "{id}/completion", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeCompletion(@PathVariable String id){
+        return completionService.subscribe(id);
+    }
+
+    @PostMapping(value = "batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public List<OrderResult> createOrders(InputStream body){
+        return batchService.createOrders(body);
     }
 }
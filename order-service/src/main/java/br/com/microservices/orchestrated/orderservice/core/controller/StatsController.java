@@ -0,0 +1,28 @@
+package br.com.microservices.orchestrated.orderservice.core.controller;
+
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderStats;
+import br.com.microservices.orchestrated.orderservice.core.enums.EGranularity;
+import br.com.microservices.orchestrated.orderservice.core.service.OrderStatsService;
+import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    private final OrderStatsService statsService;
+
+    @GetMapping
+    public OrderStats stats(@RequestParam(defaultValue = "MINUTE") EGranularity granularity,
+                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to){
+        return statsService.stats(granularity, from, to);
+    }
+}
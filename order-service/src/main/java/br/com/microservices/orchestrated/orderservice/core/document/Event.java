@@ -5,7 +5,11 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,13 +19,24 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Document(collection = "event")
+@CompoundIndexes({
+        @CompoundIndex(name = "createdAt_id", def = "{'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "orderId_createdAt_id", def = "{'orderId': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "transactionId_createdAt_id", def = "{'transactionId': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "status_createdAt_id", def = "{'status': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "source_createdAt_id", def = "{'Source': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "source_status_createdAt_id", def = "{'Source': 1, 'status': 1, 'createdAt': -1, '_id': -1}")
+})
 public class Event {
     @Id
     private String id;
     private String transactionId;
     private String orderId;
+    private String sagaType;
+    @Transient
     private Order payload;
-    private String Source;
+    @Field("Source")
+    private String source;
     private String status;
     private List<History> eventHistory;
     private LocalDateTime createdAt;
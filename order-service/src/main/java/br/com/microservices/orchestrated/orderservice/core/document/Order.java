@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -20,6 +21,7 @@ public class Order {
     private String id;
     private List<OrderProducts> products;
     private LocalDateTime createdAt;
+    @Indexed
     private String transactionId;
     private double totalAmount;
     private int totalItems;
@@ -0,0 +1,33 @@
+package br.com.microservices.orchestrated.orderservice.core.document;
+
+import br.com.microservices.orchestrated.orderservice.core.enums.EGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "order_rollup")
+@CompoundIndex(name = "granularity_bucket", def = "{'granularity': 1, 'bucket': 1}")
+public class OrderRollup {
+    @Id
+    private String id;
+    private EGranularity granularity;
+    private LocalDateTime bucket;
+    private long orders;
+    private double totalAmount;
+    private long totalItems;
+    private Map<String, Long> statuses;
+    private Map<String, Long> products;
+    private List<String> batches;
+}
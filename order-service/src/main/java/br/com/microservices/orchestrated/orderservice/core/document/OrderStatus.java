@@ -0,0 +1,33 @@
+package br.com.microservices.orchestrated.orderservice.core.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "order_status")
+@CompoundIndex(name = "countedAt_updatedAt", def = "{'countedAt': 1, 'updatedAt': 1}")
+public class OrderStatus {
+    @Id
+    private String orderId;
+    @Indexed
+    private String transactionId;
+    private String status;
+    private String source;
+    private double totalAmount;
+    private int totalItems;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime countedAt;
+    private String rollupBatch;
+}
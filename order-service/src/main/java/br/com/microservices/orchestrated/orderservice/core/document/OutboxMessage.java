@@ -0,0 +1,29 @@
+package br.com.microservices.orchestrated.orderservice.core.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "outbox")
+@CompoundIndex(name = "lockedUntil_createdAt", def = "{'lockedUntil': 1, 'createdAt': 1}")
+public class OutboxMessage {
+    @Id
+    private String id;
+    private Order order;
+    private Event event;
+    private String owner;
+    private int attempts;
+    private LocalDateTime lockedUntil;
+    private LocalDateTime parkedAt;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,35 @@
+package br.com.microservices.orchestrated.orderservice.core.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TimeSeries;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "saga_history")
+@TimeSeries(timeField = "createdAt", metaField = "meta", granularity = Granularity.SECONDS)
+public class SagaHistoryEntry {
+    @Id
+    private String id;
+    private Meta meta;
+    private String transactionId;
+    private String message;
+    private LocalDateTime createdAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Meta {
+        private String source;
+        private String status;
+    }
+}
@@ -3,6 +3,9 @@ package br.com.microservices.orchestrated.orderservice.core.dto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
 
 @Data
 @NoArgsConstructor
@@ -10,4 +13,10 @@ import lombok.NoArgsConstructor;
 public class EventFilter {
     private String orderId;
     private String transactionId;
+    private String status;
+    private String source;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdAtFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdAtTo;
 }
@@ -0,0 +1,16 @@
+package br.com.microservices.orchestrated.orderservice.core.dto;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPage {
+    private List<Event> events;
+    private String nextCursor;
+}
@@ -0,0 +1,19 @@
+package br.com.microservices.orchestrated.orderservice.core.dto;
+
+import br.com.microservices.orchestrated.orderservice.core.enums.EOrderResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderResult {
+    private int index;
+    private String orderId;
+    private String transactionId;
+    private EOrderResult status;
+    private String error;
+}
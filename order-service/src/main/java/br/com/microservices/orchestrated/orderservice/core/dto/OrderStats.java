@@ -0,0 +1,45 @@
+package br.com.microservices.orchestrated.orderservice.core.dto;
+
+import br.com.microservices.orchestrated.orderservice.core.enums.EGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStats {
+    private EGranularity granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private long orders;
+    private Map<String, Long> statuses;
+    private double successRatio;
+    private double averageTotalAmount;
+    private List<ProductCount> topProducts;
+    private List<Bucket> buckets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProductCount {
+        private String code;
+        private long quantity;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private LocalDateTime bucket;
+        private long orders;
+        private Map<String, Long> statuses;
+        private double totalAmount;
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.microservices.orchestrated.orderservice.core.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.temporal.ChronoUnit;
+
+@Getter
+@AllArgsConstructor
+public enum EGranularity {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS);
+
+    private final ChronoUnit unit;
+}
@@ -0,0 +1,6 @@
+package br.com.microservices.orchestrated.orderservice.core.enums;
+
+public enum EIntakeMode {
+    SYNC,
+    ASYNC,
+}
@@ -0,0 +1,16 @@
+package br.com.microservices.orchestrated.orderservice.core.id;
+
+final class Crockford {
+
+    static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private Crockford() {
+    }
+
+    static void encode(long value, char[] target, int from, int to) {
+        for (var i = to - 1; i >= from; i--) {
+            target[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+    }
+}
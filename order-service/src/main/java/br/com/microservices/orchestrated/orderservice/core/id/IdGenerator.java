@@ -0,0 +1,10 @@
+package br.com.microservices.orchestrated.orderservice.core.id;
+
+/**
+ * Generates time-ordered identifiers on the client side, so documents can be written together without
+ * waiting for Mongo to assign an {@code _id}. Identifiers of a generator sort lexicographically by creation time.
+ */
+public interface IdGenerator {
+
+    String nextId();
+}
@@ -0,0 +1,26 @@
+package br.com.microservices.orchestrated.orderservice.core.id;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * A snowflake generator whose worker id is leased. Once the lease can no longer be shown to be held, another
+ * instance may take the same worker id, so the generator fails instead of risking duplicate ids.
+ */
+public class LeasedIdGenerator implements IdGenerator {
+
+    private final IdGenerator delegate;
+    private final BooleanSupplier leaseHeld;
+
+    public LeasedIdGenerator(IdGenerator delegate, BooleanSupplier leaseHeld) {
+        this.delegate = delegate;
+        this.leaseHeld = leaseHeld;
+    }
+
+    @Override
+    public String nextId() {
+        if (!leaseHeld.getAsBoolean()) {
+            throw new IllegalStateException("Worker id lease expired, ids cannot be generated until it is renewed");
+        }
+        return delegate.nextId();
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.microservices.orchestrated.orderservice.core.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 64-bit ids made of 41 bits of milliseconds since 2024-01-01, a 10-bit worker id and a 12-bit sequence,
+ * rendered as 13 Crockford base32 characters. The last timestamp and sequence live in one {@link AtomicLong}
+ * advanced by CAS. When a millisecond runs out of sequence numbers, or the clock moves backwards, the
+ * generator borrows the next millisecond instead of waiting, so ids stay unique and increasing.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    static final long EPOCH = 1704067200000L;
+    static final int WORKER_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+    private static final int LENGTH = 13;
+
+    private final long workerId;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long workerId) {
+        this(workerId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(long workerId, LongSupplier clock) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("Worker id must be between 0 and " + MAX_WORKER_ID + ": " + workerId);
+        }
+        this.workerId = workerId;
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextId() {
+        var id = new char[LENGTH];
+        Crockford.encode(nextLong(), id, 0, LENGTH);
+        return new String(id);
+    }
+
+    public long nextLong() {
+        while (true) {
+            var current = state.get();
+            var now = (clock.getAsLong() - EPOCH) << SEQUENCE_BITS;
+            var next = now > current ? now : current + 1;
+            if (state.compareAndSet(current, next)) {
+                var timestamp = next >>> SEQUENCE_BITS;
+                var sequence = next & ((1L << SEQUENCE_BITS) - 1);
+                return timestamp << (WORKER_BITS + SEQUENCE_BITS) | workerId << SEQUENCE_BITS | sequence;
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.microservices.orchestrated.orderservice.core.id;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * 128-bit ULIDs: 48 bits of epoch milliseconds followed by 80 random bits, rendered as 26 Crockford base32
+ * characters. Needs no worker id; randomness comes from {@link ThreadLocalRandom}, so ids are unique in
+ * practice but not ordered within the same millisecond.
+ */
+public class UlidIdGenerator implements IdGenerator {
+
+    private static final int TIME_LENGTH = 10;
+    private static final int LENGTH = 26;
+
+    private final LongSupplier clock;
+
+    public UlidIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    UlidIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextId() {
+        var random = ThreadLocalRandom.current();
+        var id = new char[LENGTH];
+        Crockford.encode(clock.getAsLong(), id, 0, TIME_LENGTH);
+        Crockford.encode(random.nextLong(1L << 40), id, TIME_LENGTH, TIME_LENGTH + 8);
+        Crockford.encode(random.nextLong(1L << 40), id, TIME_LENGTH + 8, LENGTH);
+        return new String(id);
+    }
+}
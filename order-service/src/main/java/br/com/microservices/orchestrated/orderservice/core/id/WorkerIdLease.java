@@ -0,0 +1,84 @@
+package br.com.microservices.orchestrated.orderservice.core.id;
+
+import br.com.microservices.orchestrated.orderservice.core.document.WorkerLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Leases a snowflake worker id from the worker_id_lease collection, one document per id. Taking an id is an
+ * upsert that only matches an expired lease, so a live lease turns the insert into a duplicate key and the
+ * next id is tried. The lease counts as held until ttl after the last successful renewal was requested.
+ */
+@Slf4j
+public class WorkerIdLease {
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration ttl;
+    private final String owner = UUID.randomUUID().toString();
+    private volatile long workerId = -1;
+    private volatile long heldUntil;
+
+    public WorkerIdLease(MongoTemplate mongoTemplate, Duration ttl) {
+        this.mongoTemplate = mongoTemplate;
+        this.ttl = ttl;
+    }
+
+    public long acquire() {
+        for (long id = 0; id <= SnowflakeIdGenerator.MAX_WORKER_ID; id++) {
+            var requestedAt = System.currentTimeMillis();
+            var now = LocalDateTime.now();
+            try {
+                mongoTemplate.upsert(query(where("_id").is(id).and("expiresAt").lt(now)), leaseUpdate(now), WorkerLease.class);
+            } catch (DuplicateKeyException ex) {
+                continue;
+            }
+            workerId = id;
+            heldUntil = requestedAt + ttl.toMillis();
+            log.info("Leased worker id {} as {}", id, owner);
+            return id;
+        }
+        throw new IllegalStateException("Every worker id up to " + SnowflakeIdGenerator.MAX_WORKER_ID + " is leased");
+    }
+
+    public void renew() {
+        if (workerId < 0) {
+            return;
+        }
+        var requestedAt = System.currentTimeMillis();
+        var result = mongoTemplate.updateFirst(query(where("_id").is(workerId).and("owner").is(owner)),
+                leaseUpdate(LocalDateTime.now()), WorkerLease.class);
+        if (result.getMatchedCount() == 0) {
+            heldUntil = 0;
+            log.error("Lease on worker id {} was taken over, no more ids will be generated", workerId);
+            return;
+        }
+        heldUntil = requestedAt + ttl.toMillis();
+    }
+
+    public boolean isHeld() {
+        return System.currentTimeMillis() < heldUntil;
+    }
+
+    public void release() {
+        if (workerId < 0) {
+            return;
+        }
+        heldUntil = 0;
+        mongoTemplate.remove(query(where("_id").is(workerId).and("owner").is(owner)), WorkerLease.class);
+    }
+
+    private Update leaseUpdate(LocalDateTime now) {
+        return new Update()
+                .set("owner", owner)
+                .set("expiresAt", now.plus(ttl));
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.microservices.orchestrated.orderservice.core.intake;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.IntakeRejectedException;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.service.OrderService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accepts orders into a bounded queue and group-commits them from a single writer thread. A batch is written
+ * once {@code batch-size} orders are waiting or {@code flush-interval-ms} has passed since its first order,
+ * whichever comes first. A full queue rejects the request immediately instead of blocking it. Accepted orders
+ * were already answered, so a batch that fails is retried with backoff until it is stored; on shutdown the
+ * writer drains the queue and only gives up, logging the orders it could not store, after
+ * {@code shutdown-timeout-ms}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "order.intake.mode", havingValue = "ASYNC")
+public class OrderIntakeQueue {
+    private static final long IDLE_POLL_MS = 100;
+
+    private final OrderService orderService;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<Order> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long retryBackoffMs;
+    private final long maxRetryBackoffMs;
+    private final long shutdownTimeoutMs;
+    private final DistributionSummary batchSizes;
+    private volatile boolean running = true;
+    private volatile boolean abandoned;
+    private Thread writer;
+
+    public OrderIntakeQueue(OrderService orderService,
+                            MeterRegistry meterRegistry,
+                            @Value("${order.intake.queue-capacity}") int queueCapacity,
+                            @Value("${order.intake.batch-size}") int batchSize,
+                            @Value("${order.intake.flush-interval-ms}") long flushIntervalMs,
+                            @Value("${order.intake.retry-backoff-ms}") long retryBackoffMs,
+                            @Value("${order.intake.max-retry-backoff-ms}") long maxRetryBackoffMs,
+                            @Value("${order.intake.shutdown-timeout-ms}") long shutdownTimeoutMs) {
+        this.orderService = orderService;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.retryBackoffMs = retryBackoffMs;
+        this.maxRetryBackoffMs = maxRetryBackoffMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.batchSizes = DistributionSummary.builder("order.intake.batch.size").register(meterRegistry);
+        Gauge.builder("order.intake.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer = Thread.ofPlatform().name("order-intake-writer").daemon().start(this::drain);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(shutdownTimeoutMs);
+        if (writer.isAlive()) {
+            abandoned = true;
+            writer.join();
+        }
+    }
+
+    public Order accept(OrderRequest request) {
+        var order = orderService.newOrder(request);
+        if (!queue.offer(order)) {
+            meterRegistry.counter("order.intake.rejected").increment();
+            throw new IntakeRejectedException("Order intake queue is full, try again later!");
+        }
+        return order;
+    }
+
+    private void drain() {
+        var batch = new ArrayList<Order>(batchSize);
+        while ((running || !queue.isEmpty()) && !abandoned) {
+            try {
+                fill(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        queue.drainTo(batch);
+        if (!batch.isEmpty()) {
+            lost(batch);
+        }
+    }
+
+    private void fill(List<Order> batch) throws InterruptedException {
+        var first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        var deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            var remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<Order> batch) {
+        var backoffMs = retryBackoffMs;
+        while (!abandoned) {
+            try {
+                orderService.createOrders(batch);
+                batchSizes.record(batch.size());
+                return;
+            } catch (Exception ex) {
+                meterRegistry.counter("order.intake.retries").increment();
+                log.error("Error writing intake batch of {} orders, retrying in {}ms", batch.size(), backoffMs, ex);
+            }
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            backoffMs = Math.min(backoffMs * 2, maxRetryBackoffMs);
+        }
+        lost(batch);
+    }
+
+    private void lost(List<Order> orders) {
+        meterRegistry.counter("order.intake.failed").increment(orders.size());
+        orders.forEach(order -> log.error("Order {} with transactionId {} was accepted but could not be stored before shutdown",
+                order.getId(), order.getTransactionId()));
+    }
+}
@@ -0,0 +1,182 @@
+package br.com.microservices.orchestrated.orderservice.core.outbox;
+
+import br.com.microservices.orchestrated.orderservice.config.kafka.KafkaDeliveryProperties;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.document.OutboxMessage;
+import br.com.microservices.orchestrated.orderservice.core.producer.SagaProducer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Drains the outbox written by order intake. Each pass leases a batch of messages, inserts their orders and
+ * events unless they already exist, sends them to start-saga and deletes the messages whose sends were
+ * acknowledged. Messages whose sends failed are released with an exponential backoff on their attempts, so
+ * start-saga is delivered at least once, and are parked for an operator once they run out of attempts. A pass
+ * stops at the first batch with a failure instead of claiming the next one. The lease outlives the producer's
+ * delivery timeout, so no other instance claims a message in flight.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "order.intake.outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private final MongoTemplate mongoTemplate;
+    private final SagaProducer producer;
+    private final KafkaDeliveryProperties deliveryProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.kafka.topic.start-saga}")
+    private String startSagaTopic;
+
+    @Value("${order.intake.outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${order.intake.outbox.lease-ms}")
+    private long leaseMs;
+
+    @Value("${order.intake.outbox.retry-backoff-ms}")
+    private long retryBackoffMs;
+
+    @Value("${order.intake.outbox.max-retry-backoff-ms}")
+    private long maxRetryBackoffMs;
+
+    @Value("${order.intake.outbox.max-attempts}")
+    private int maxAttempts;
+
+    @PostConstruct
+    public void validateLease() {
+        var profile = deliveryProperties.getProfiles().get(deliveryProperties.profileFor(startSagaTopic));
+        var deliveryTimeoutMs = profile == null ? new KafkaDeliveryProperties.Profile().getDeliveryTimeoutMs() : profile.getDeliveryTimeoutMs();
+        if (leaseMs <= deliveryTimeoutMs) {
+            throw new IllegalStateException("order.intake.outbox.lease-ms must be longer than the " + startSagaTopic
+                    + " delivery timeout of " + deliveryTimeoutMs + "ms");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.intake.outbox.poll-interval-ms}")
+    public void relay() {
+        List<OutboxMessage> batch;
+        var delivered = true;
+        do {
+            batch = claim();
+            if (!batch.isEmpty()) {
+                delivered = publish(batch);
+            }
+        } while (delivered && batch.size() == batchSize);
+    }
+
+    private List<OutboxMessage> claim() {
+        var now = LocalDateTime.now();
+        var available = query(where("lockedUntil").lte(now))
+                .with(Sort.by("createdAt"))
+                .limit(batchSize);
+        available.fields().include("_id");
+        var ids = mongoTemplate.find(available, OutboxMessage.class).stream().map(OutboxMessage::getId).toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        var owner = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                query(where("_id").in(ids).and("lockedUntil").lte(now)),
+                new Update().set("owner", owner).set("lockedUntil", now.plus(Duration.ofMillis(leaseMs))).inc("attempts", 1),
+                OutboxMessage.class);
+        return mongoTemplate.find(query(where("owner").is(owner)), OutboxMessage.class);
+    }
+
+    /**
+     * Returns whether every message of the batch was delivered.
+     */
+    private boolean publish(List<OutboxMessage> batch) {
+        var orders = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Order.class);
+        var events = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Event.class);
+        batch.forEach(message -> {
+            orders.upsert(query(where("_id").is(message.getOrder().getId())), insertOnly(message.getOrder()));
+            events.upsert(query(where("_id").is(message.getEvent().getId())), insertOnly(message.getEvent()));
+        });
+        orders.execute();
+        events.execute();
+
+        var sends = new ArrayList<CompletableFuture<String>>(batch.size());
+        try {
+            for (var message : batch) {
+                var event = message.getEvent();
+                event.setPayload(message.getOrder());
+                sends.add(producer.publish(event).handle((result, ex) -> ex == null ? message.getId() : null));
+            }
+        } catch (Exception ex) {
+            log.warn("Outbox relay stopped after {} of {} messages, the rest will be retried", sends.size(), batch.size(), ex);
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+
+        var delivered = sends.stream().map(CompletableFuture::join).filter(Objects::nonNull).collect(Collectors.toSet());
+        if (!delivered.isEmpty()) {
+            mongoTemplate.remove(query(where("_id").in(delivered)), OutboxMessage.class);
+        }
+        var failed = batch.stream().filter(message -> !delivered.contains(message.getId())).toList();
+        if (!failed.isEmpty()) {
+            release(failed);
+        }
+        log.info("Outbox relay delivered {} of {} messages to start-saga", delivered.size(), batch.size());
+        return failed.isEmpty();
+    }
+
+    private void release(List<OutboxMessage> failed) {
+        var now = LocalDateTime.now();
+        var releases = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OutboxMessage.class);
+        var parked = 0;
+        for (var message : failed) {
+            var owned = query(where("_id").is(message.getId()).and("owner").is(message.getOwner()));
+            if (message.getAttempts() >= maxAttempts) {
+                releases.updateOne(owned, new Update().unset("lockedUntil").set("parkedAt", now));
+                parked++;
+            } else {
+                releases.updateOne(owned, new Update().set("lockedUntil", now.plus(Duration.ofMillis(backoffMs(message.getAttempts())))));
+            }
+        }
+        releases.execute();
+        if (parked > 0) {
+            meterRegistry.counter("order.outbox.parked").increment(parked);
+            log.error("Parked {} outbox messages after {} failed attempts to send them to start-saga", parked, maxAttempts);
+        }
+    }
+
+    private long backoffMs(int attempts) {
+        var doublings = Math.min(Math.max(attempts - 1, 0), 20);
+        return Math.min(retryBackoffMs << doublings, maxRetryBackoffMs);
+    }
+
+    /**
+     * A retried message must not overwrite an order or event that notify-ending has already updated.
+     */
+    private Update insertOnly(Object entity) {
+        var document = new Document();
+        mongoTemplate.getConverter().write(entity, document);
+        document.remove("_id");
+        return Update.fromDocument(new Document("$setOnInsert", document));
+    }
+}
@@ -1,26 +1,54 @@
 package br.com.microservices.orchestrated.orderservice.core.producer;
 
+import br.com.microservices.orchestrated.orderservice.config.exception.KafkaBackpressureException;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.utils.EventCodec;
+import br.com.microservices.orchestrated.orderservice.utils.SagaHeaders;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SagaProducer {
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaSender sender;
+    private final EventCodec codec;
+    private final MeterRegistry meterRegistry;
 
     @Value("${spring.kafka.topic.start-saga}")
     private String startSagaTopic;
 
-    public void sendEvent(String payload){
+    public void sendEvent(Event event){
         try{
-            kafkaTemplate.send(startSagaTopic,payload);
-            log.info("Send event to the topic {} with data {}", startSagaTopic, payload);
+            publish(event);
+            log.info("Send event {} to the topic {}", event.getTransactionId(), startSagaTopic);
+        } catch (KafkaBackpressureException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Error trying to send data to topic {} with data {}", startSagaTopic, payload, e);
+            log.error("Error trying to send event {} to topic {}", event.getTransactionId(), startSagaTopic, e);
         }
     }
+
+    public CompletableFuture<SendResult<String, byte[]>> publish(Event event) {
+        var payload = codec.encode(event);
+        var record = new ProducerRecord<>(startSagaTopic, event.getTransactionId(), payload);
+        record.headers().add(SagaHeaders.CONTENT_TYPE, codec.contentType().getBytes(StandardCharsets.UTF_8));
+        var result = sender.send(record);
+        DistributionSummary
+                .builder("saga.message.size")
+                .baseUnit("bytes")
+                .tag("topic", startSagaTopic)
+                .register(meterRegistry)
+                .record(payload.length);
+        return result;
+    }
 }
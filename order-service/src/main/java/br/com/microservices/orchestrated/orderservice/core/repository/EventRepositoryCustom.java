@@ -0,0 +1,14 @@
+package br.com.microservices.orchestrated.orderservice.core.repository;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventFilter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface EventRepositoryCustom {
+    List<Event> findPageAfter(LocalDateTime createdAt, String id, int limit);
+    List<Event> search(EventFilter filter, LocalDateTime createdAt, String id, int limit);
+    Stream<Event> streamAllByOrderByCreatedAtDesc();
+}
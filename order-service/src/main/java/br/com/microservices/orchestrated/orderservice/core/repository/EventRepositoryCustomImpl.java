@@ -0,0 +1,88 @@
+package br.com.microservices.orchestrated.orderservice.core.repository;
+
+import br.com.microservices.orchestrated.orderservice.config.mongo.MongoConfig;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.micrometer.common.util.StringUtils.isNotEmpty;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Reads the event collection newest first. Every query shape filters on the equality fields of one of the
+ * compound indexes declared on {@link Event} followed by (createdAt, _id), so pages seek past the last key
+ * returned instead of skipping and the sort comes from the index. Listing and search go through the read
+ * template; the latest-event lookups stay on the primary as derived queries on {@link EventRepository}.
+ */
+@RequiredArgsConstructor
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "_id");
+    private static final int STREAM_BATCH_SIZE = 500;
+
+    @Qualifier(MongoConfig.READ_TEMPLATE)
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Event> findPageAfter(LocalDateTime createdAt, String id, int limit) {
+        return search(new EventFilter(), createdAt, id, limit);
+    }
+
+    @Override
+    public List<Event> search(EventFilter filter, LocalDateTime createdAt, String id, int limit) {
+        return mongoTemplate.find(searchQuery(filter, createdAt, id, limit), Event.class);
+    }
+
+    @Override
+    public Stream<Event> streamAllByOrderByCreatedAtDesc() {
+        var query = new Query().with(NEWEST_FIRST).cursorBatchSize(STREAM_BATCH_SIZE);
+        return mongoTemplate.stream(query, Event.class);
+    }
+
+    static Query searchQuery(EventFilter filter, LocalDateTime createdAt, String id, int limit) {
+        var query = new Query().with(NEWEST_FIRST).limit(limit);
+        addEquals(query, "orderId", filter.getOrderId());
+        addEquals(query, "transactionId", filter.getTransactionId());
+        addEquals(query, "source", filter.getSource());
+        addEquals(query, "status", filter.getStatus());
+        var range = createdAtRange(filter);
+        if (createdAt != null) {
+            var after = new Criteria().orOperator(
+                    where("createdAt").lt(createdAt),
+                    where("createdAt").is(createdAt).and("_id").lt(id));
+            query.addCriteria(range == null ? after : new Criteria().andOperator(range, after));
+        } else if (range != null) {
+            query.addCriteria(range);
+        }
+        return query;
+    }
+
+    private static void addEquals(Query query, String field, String value) {
+        if (isNotEmpty(value)) {
+            query.addCriteria(where(field).is(value));
+        }
+    }
+
+    private static Criteria createdAtRange(EventFilter filter) {
+        if (filter.getCreatedAtFrom() == null && filter.getCreatedAtTo() == null) {
+            return null;
+        }
+        var range = where("createdAt");
+        if (filter.getCreatedAtFrom() != null) {
+            range.gte(filter.getCreatedAtFrom());
+        }
+        if (filter.getCreatedAtTo() != null) {
+            range.lt(filter.getCreatedAtTo());
+        }
+        return range;
+    }
+}
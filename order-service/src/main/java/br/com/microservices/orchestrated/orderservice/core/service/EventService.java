@@ -1,31 +1,188 @@
 package br.com.microservices.orchestrated.orderservice.core.service;
 
 import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.config.mongo.MongoConfig;
+import br.com.microservices.orchestrated.orderservice.core.archive.EventArchiver;
+import br.com.microservices.orchestrated.orderservice.core.cache.EventCache;
+import br.com.microservices.orchestrated.orderservice.core.completion.SagaCompletionRegistry;
 import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.History;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
 import br.com.microservices.orchestrated.orderservice.core.dto.EventFilter;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventPage;
+import br.com.microservices.orchestrated.orderservice.core.enums.EHistoryMode;
 import br.com.microservices.orchestrated.orderservice.core.repository.EventRepository;
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static io.micrometer.common.util.StringUtils.isEmpty;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 @Slf4j
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class EventService {
+    private static final String EVENT_HISTORY_FIELD = "eventHistory";
+    private static final String CURSOR_SEPARATOR = "_";
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int PAYLOAD_BATCH_SIZE = 500;
+
     private final EventRepository repository;
+    private final MongoTemplate mongoTemplate;
+    @Qualifier(MongoConfig.READ_TEMPLATE)
+    private final MongoTemplate readTemplate;
+    private final ObjectMapper objectMapper;
+    private final EventCache eventCache;
+    private final SagaCompletionRegistry completionRegistry;
+    private final OrderStatsService statsService;
+    private final OrderStatusService statusService;
+    private final SagaHistoryService historyService;
+
+    @Value("${saga.history.mode}")
+    private EHistoryMode historyMode;
+
+    @Value("${saga.history.embedded}")
+    private boolean embeddedHistory;
 
     public void notifyEnding(final Event event) {
         event.setOrderId(event.getOrderId());
         event.setCreatedAt(LocalDateTime.now());
-        save(event);
+        recordHistory(event);
+        if (historyMode == EHistoryMode.LATEST && event.getId() != null) {
+            saveKeepingHistory(event);
+            eventCache.evict(event);
+        } else if (!embeddedHistory) {
+            var history = event.getEventHistory();
+            event.setEventHistory(null);
+            save(event);
+            event.setEventHistory(history);
+            eventCache.evict(event);
+        } else {
+            eventCache.put(save(event));
+        }
+        updateOrderTotals(event);
+        statusService.record(List.of(event));
+        statsService.record(List.of(event));
+        completionRegistry.complete(event);
         log.info("Order {} with saga notified! transactionId: {}", event.getOrderId(), event.getTransactionId());
     }
 
+    public void notifyEndings(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        var latest = new LinkedHashMap<String, Event>();
+        events.forEach(event -> latest.put(event.getTransactionId(), event));
+        var now = LocalDateTime.now();
+        var operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Event.class);
+        latest.values().forEach(event -> {
+            event.setCreatedAt(now);
+            recordHistory(event);
+            operations.upsert(query(where("transactionId").is(event.getTransactionId())), endingUpdate(event));
+        });
+        var result = operations.execute();
+        var orders = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Order.class);
+        var ordersChanged = false;
+        for (var event : latest.values()) {
+            if (event.getPayload() != null) {
+                orders.updateOne(query(where("_id").is(event.getOrderId())), totalsUpdate(event.getPayload()));
+                ordersChanged = true;
+            }
+        }
+        if (ordersChanged) {
+            orders.execute();
+        }
+        var endings = List.copyOf(latest.values());
+        statusService.record(endings);
+        statsService.record(endings);
+        latest.values().forEach(event -> {
+            eventCache.evict(event);
+            completionRegistry.complete(event);
+        });
+        log.info("{} sagas notified in bulk: {} inserted, {} updated",
+                latest.size(), result.getUpserts().size(), result.getModifiedCount());
+    }
+
+    private void recordHistory(Event event) {
+        if (historyMode == EHistoryMode.FULL) {
+            historyService.record(event.getTransactionId(), event.getEventHistory());
+        }
+    }
+
+    private void updateOrderTotals(Event event) {
+        if (event.getPayload() != null) {
+            mongoTemplate.updateFirst(query(where("_id").is(event.getOrderId())), totalsUpdate(event.getPayload()), Order.class);
+        }
+    }
+
+    private static Update totalsUpdate(Order payload) {
+        return new Update()
+                .set("totalAmount", payload.getTotalAmount())
+                .set("totalItems", payload.getTotalItems());
+    }
+
+    private Update endingUpdate(Event event) {
+        var document = new Document();
+        mongoTemplate.getConverter().write(event, document);
+        var id = document.remove("_id");
+        if (historyMode == EHistoryMode.LATEST || !embeddedHistory) {
+            document.remove(EVENT_HISTORY_FIELD);
+        }
+        var update = Update.fromDocument(new Document("$set", document));
+        if (id != null) {
+            update.setOnInsert("_id", id);
+        }
+        return update;
+    }
+
+    public void appendHistory(String transactionId, History history) {
+        historyService.record(transactionId, List.of(history));
+        if (!embeddedHistory) {
+            eventCache.evictTransaction(transactionId);
+            return;
+        }
+        var update = new Update()
+                .push(EVENT_HISTORY_FIELD)
+                .sort(Sort.by("createdAt"))
+                .each(history);
+        var result = mongoTemplate.updateFirst(query(where("transactionId").is(transactionId)), update, Event.class);
+        if (result.getMatchedCount() == 0) {
+            log.warn("No saga event found to append history for transactionId: {}", transactionId);
+        }
+        eventCache.evictTransaction(transactionId);
+    }
+
+    private void saveKeepingHistory(Event event) {
+        var document = new Document();
+        mongoTemplate.getConverter().write(event, document);
+        document.remove("_id");
+        document.remove(EVENT_HISTORY_FIELD);
+        mongoTemplate.upsert(query(where("_id").is(event.getId())), Update.fromDocument(new Document("$set", document)), Event.class);
+    }
 
     public Event findByFilter(EventFilter filter){
         ValidateEmptyFilter(filter);
@@ -35,18 +192,120 @@ public class EventService {
         return getEventByTransactionId(filter);
     }
 
-    public List<Event> findAll(){
-        return  repository.findAllByOrderByCreatedAtDesc();
+    public EventPage findPage(String cursor, int size){
+        return search(new EventFilter(), cursor, size);
+    }
+
+    public EventPage search(EventFilter filter, String cursor, int size){
+        var limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        var after = decodeCursor(cursor);
+        var events = repository.search(filter, after.getCreatedAt(), after.getId(), limit + 1);
+        if (events.size() <= limit) {
+            return new EventPage(withPayloads(events), null);
+        }
+        var page = withPayloads(events.subList(0, limit));
+        return new EventPage(page, encodeCursor(page.get(limit - 1)));
+    }
+
+    public void writeAll(OutputStream output) throws IOException {
+        try (var generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.writeStartArray();
+            writeEvents(generator, false);
+            generator.writeEndArray();
+        }
+    }
+
+    public void writeNdjson(OutputStream output) throws IOException {
+        try (var generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.setRootValueSeparator(null);
+            writeEvents(generator, true);
+        }
+    }
+
+    private void writeEvents(JsonGenerator generator, boolean lineDelimited) throws IOException {
+        try (var events = repository.streamAllByOrderByCreatedAtDesc()) {
+            var chunk = new ArrayList<Event>(PAYLOAD_BATCH_SIZE);
+            for (var iterator = events.iterator(); iterator.hasNext(); ) {
+                chunk.add(iterator.next());
+                if (chunk.size() < PAYLOAD_BATCH_SIZE && iterator.hasNext()) {
+                    continue;
+                }
+                for (var event : withPayloads(chunk)) {
+                    generator.writeObject(event);
+                    if (lineDelimited) {
+                        generator.writeRaw('\n');
+                    }
+                }
+                chunk.clear();
+            }
+        }
+    }
+
+    /** Attaches the orders of a page of events with one $in query, since events no longer embed them. */
+    private List<Event> withPayloads(List<Event> events) {
+        if (events.isEmpty()) {
+            return events;
+        }
+        var orderIds = events.stream().map(Event::getOrderId).distinct().toList();
+        var orders = readTemplate
+                .find(query(where("_id").in(orderIds)), Order.class)
+                .stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        events.forEach(event -> event.setPayload(orders.get(event.getOrderId())));
+        return events;
+    }
+
+    private static Event decodeCursor(String cursor) {
+        if (isEmpty(cursor)) {
+            return new Event();
+        }
+        try {
+            var key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(CURSOR_SEPARATOR, 2);
+            return Event
+                    .builder()
+                    .createdAt(LocalDateTime.parse(key[0]))
+                    .id(key[1])
+                    .build();
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException ex) {
+            throw new ValidationException("Invalid cursor!");
+        }
+    }
+
+    private static String encodeCursor(Event event) {
+        var key = event.getCreatedAt() + CURSOR_SEPARATOR + event.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
     }
 
     private Event getEventByTransactionId(EventFilter filter) {
-        return repository.findTop1ByTransactionIdOrderByCreatedAtDesc(filter.getTransactionId())
-                .orElseThrow(() -> new ValidationException("Order not found"));
+        return eventCache.getByTransactionId(filter.getTransactionId(), () ->
+                repository.findTop1ByTransactionIdOrderByCreatedAtDesc(filter.getTransactionId())
+                        .or(() -> findArchived("transactionId", filter.getTransactionId()))
+                        .map(this::withPayload)
+                        .orElseThrow(() -> new ValidationException("Order not found")));
     }
 
     private Event getEventByOrderId(EventFilter filter) {
-        return repository.findTop1ByOrderIdOrderByCreatedAtDesc(filter.getOrderId())
-                .orElseThrow(() -> new ValidationException("Order not found"));
+        return eventCache.getByOrderId(filter.getOrderId(), () ->
+                repository.findTop1ByOrderIdOrderByCreatedAtDesc(filter.getOrderId())
+                        .or(() -> findArchived("orderId", filter.getOrderId()))
+                        .map(this::withPayload)
+                        .orElseThrow(() -> new ValidationException("Order not found")));
+    }
+
+    private Optional<Event> findArchived(String field, String value) {
+        var archived = query(where(field).is(value)).with(Sort.by(Sort.Direction.DESC, "createdAt"));
+        return Optional.ofNullable(mongoTemplate.findOne(archived, Event.class, EventArchiver.ARCHIVE_COLLECTION));
+    }
+
+    private Event withPayload(Event event) {
+        event.setPayload(mongoTemplate.findById(event.getOrderId(), Order.class));
+        if (!embeddedHistory) {
+            var steps = historyService.findByTransactionId(event.getTransactionId());
+            if (!steps.isEmpty()) {
+                event.setEventHistory(steps);
+            }
+        }
+        return event;
     }
 
     private static void ValidateEmptyFilter(EventFilter filter) {
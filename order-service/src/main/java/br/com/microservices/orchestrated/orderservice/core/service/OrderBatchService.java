@@ -0,0 +1,85 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.OrderBatchException;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a JSON array of orders from the request body one element at a time and creates them in chunks of
+ * {@code order.batch.chunk-size}, so only one chunk of orders is held in memory besides the results. Chunks
+ * written before a malformed element or the {@code order.batch.max-orders} limit stay written, and their sagas
+ * run; the 400 response carries their per-order results, and the orders after them were not created.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderBatchService {
+
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.batch.chunk-size}")
+    private int chunkSize;
+
+    @Value("${order.batch.max-orders}")
+    private int maxOrders;
+
+    public List<OrderResult> createOrders(InputStream body) {
+        var results = new ArrayList<OrderResult>();
+        var chunk = new ArrayList<Order>(chunkSize);
+        try (var parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new OrderBatchException("Order batch must be a JSON array!", results);
+            }
+            var count = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                if (++count > maxOrders) {
+                    throw new OrderBatchException(String.format(
+                            "Order batch exceeds %d orders, %d orders were accepted!", maxOrders, results.size()), results);
+                }
+                chunk.add(orderService.newOrder(objectMapper.readValue(parser, OrderRequest.class)));
+                if (chunk.size() == chunkSize) {
+                    flush(chunk, results);
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new OrderBatchException(String.format(
+                        "Order batch must only contain order objects, %d orders were accepted!", results.size()), results);
+            }
+        } catch (JsonProcessingException ex) {
+            throw new OrderBatchException(String.format(
+                    "Invalid order batch after %d orders were accepted: %s", results.size(), ex.getOriginalMessage()), results);
+        } catch (IOException ex) {
+            throw new OrderBatchException(String.format(
+                    "Could not read order batch after %d orders were accepted!", results.size()), results);
+        }
+        flush(chunk, results);
+        log.info("Order batch with {} orders processed", results.size());
+        return results;
+    }
+
+    private void flush(List<Order> chunk, List<OrderResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        var offset = results.size();
+        orderService.createBatch(chunk).forEach(result -> {
+            result.setIndex(result.getIndex() + offset);
+            results.add(result);
+        });
+        chunk.clear();
+    }
+}
@@ -2,48 +2,210 @@ package br.com.microservices.orchestrated.orderservice.core.service;
 
 import br.com.microservices.orchestrated.orderservice.core.document.Event;
 import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.document.OutboxMessage;
 import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderResult;
+import br.com.microservices.orchestrated.orderservice.core.enums.EOrderResult;
+import br.com.microservices.orchestrated.orderservice.core.id.IdGenerator;
 import br.com.microservices.orchestrated.orderservice.core.producer.SagaProducer;
 import br.com.microservices.orchestrated.orderservice.core.repository.OrderRepository;
-import br.com.microservices.orchestrated.orderservice.utils.JsonUtil;
-import lombok.AllArgsConstructor;
+import br.com.microservices.orchestrated.orderservice.core.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class OrderService {
-    private static final String TRANSACTION_ID_PATTERN = "%s_%s";
     private final OrderRepository repository;
+    private final OutboxRepository outboxRepository;
     private final EventService eventService;
     private final SagaProducer produce;
-    private final JsonUtil jsonUtil;
+    private final MongoTemplate mongoTemplate;
+    private final IdGenerator idGenerator;
+
+    @Value("${order.intake.outbox.enabled}")
+    private boolean outboxEnabled;
+
     public Order createOrder(OrderRequest orderRequest){
-        var order = Order
+        var order = newOrder(orderRequest);
+        if (outboxEnabled) {
+            outboxRepository.insert(toOutboxMessage(order));
+            return order;
+        }
+        repository.save(order);
+        produce.sendEvent(createPayload(order));
+        return order;
+    }
+
+    /**
+     * Writes a group commit of intake orders. Calling it again with the same orders after a failure is safe:
+     * documents that already exist are left alone and only the events created by this call are sent.
+     */
+    public void createOrders(List<Order> orders){
+        if (outboxEnabled) {
+            insertMissing(orders.stream().map(this::toOutboxMessage).toList(), OutboxMessage.class, "_id", OutboxMessage::getId);
+            return;
+        }
+        insertMissing(orders, Order.class, "_id", Order::getId);
+        var events = orders.stream().map(this::buildPayload).toList();
+        insertMissing(events, Event.class, "orderId", Event::getOrderId).forEach(produce::sendEvent);
+    }
+
+    private <T> List<T> insertMissing(List<T> documents, Class<T> type, String key, Function<T, String> keyOf){
+        var operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+        documents.forEach(document -> operations.upsert(query(where(key).is(keyOf.apply(document))), insertOnly(document)));
+        return operations
+                .execute()
+                .getUpserts()
+                .stream()
+                .map(upsert -> documents.get(upsert.getIndex()))
+                .toList();
+    }
+
+    private Update insertOnly(Object document){
+        var fields = new Document();
+        mongoTemplate.getConverter().write(document, fields);
+        fields.remove("_id");
+        return Update.fromDocument(new Document("$setOnInsert", fields));
+    }
+
+    public List<OrderResult> createBatch(List<Order> orders){
+        var errors = new HashMap<Integer, String>();
+        if (outboxEnabled) {
+            bulkInsert(orders.stream().map(this::toOutboxMessage).toList(), OutboxMessage.class, index -> index, errors);
+            return results(orders, errors);
+        }
+        bulkInsert(orders, Order.class, index -> index, errors);
+        var created = IntStream.range(0, orders.size()).filter(index -> !errors.containsKey(index)).boxed().toList();
+        var events = created.stream().map(index -> buildPayload(orders.get(index))).toList();
+        bulkInsert(events, Event.class, created::get, errors);
+
+        var sends = new HashMap<Integer, CompletableFuture<?>>();
+        var unsent = new ArrayList<Integer>();
+        for (var i = 0; i < events.size(); i++) {
+            var index = created.get(i);
+            if (errors.containsKey(index)) {
+                continue;
+            }
+            try {
+                sends.put(index, produce.publish(events.get(i)));
+            } catch (Exception ex) {
+                errors.put(index, ex.getMessage());
+                unsent.add(index);
+            }
+        }
+        rollback(orders, unsent);
+        var pending = new HashMap<Integer, String>();
+        sends.forEach((index, send) -> {
+            try {
+                send.join();
+            } catch (CompletionException ex) {
+                pending.put(index, ex.getCause().getMessage());
+            }
+        });
+        return results(orders, errors, pending);
+    }
+
+    /**
+     * Removes the documents of orders whose start-saga event was refused before it was sent, so a FAILED order
+     * leaves nothing behind. A send that failed after it was handed to the producer may still have reached the
+     * broker, so those orders are kept and reported as PENDING instead.
+     */
+    private void rollback(List<Order> orders, List<Integer> unsent){
+        if (unsent.isEmpty()) {
+            return;
+        }
+        var orderIds = unsent.stream().map(index -> orders.get(index).getId()).toList();
+        mongoTemplate.remove(query(where("orderId").in(orderIds)), Event.class);
+        mongoTemplate.remove(query(where("_id").in(orderIds)), Order.class);
+    }
+
+    private <T> void bulkInsert(List<T> documents, Class<T> type, IntFunction<Integer> orderIndex, Map<Integer, String> errors){
+        if (documents.isEmpty()) {
+            return;
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type).insert(documents).execute();
+        } catch (BulkOperationException ex) {
+            ex.getErrors().forEach(error -> errors.put(orderIndex.apply(error.getIndex()), error.getMessage()));
+        }
+    }
+
+    private static List<OrderResult> results(List<Order> orders, Map<Integer, String> errors){
+        return results(orders, errors, Map.of());
+    }
+
+    private static List<OrderResult> results(List<Order> orders, Map<Integer, String> errors, Map<Integer, String> pending){
+        return IntStream.range(0, orders.size())
+                .mapToObj(index -> {
+                    var order = orders.get(index);
+                    if (errors.containsKey(index)) {
+                        return new OrderResult(index, order.getId(), order.getTransactionId(), EOrderResult.FAILED, errors.get(index));
+                    }
+                    if (pending.containsKey(index)) {
+                        return new OrderResult(index, order.getId(), order.getTransactionId(), EOrderResult.PENDING, pending.get(index));
+                    }
+                    return new OrderResult(index, order.getId(), order.getTransactionId(), EOrderResult.ACCEPTED, null);
+                })
+                .toList();
+    }
+
+    public Order newOrder(OrderRequest orderRequest){
+        return Order
                 .builder()
+                .id(idGenerator.nextId())
                 .products(orderRequest.getProducts())
                 .createdAt(LocalDateTime.now())
-                .transactionId(
-                        String.format(TRANSACTION_ID_PATTERN, Instant.now().toEpochMilli(), UUID.randomUUID())
-                )
+                .transactionId(idGenerator.nextId())
+                .build();
+    }
+
+    private OutboxMessage toOutboxMessage(Order order){
+        var event = buildPayload(order);
+        return OutboxMessage
+                .builder()
+                .id(order.getId())
+                .order(order)
+                .event(event)
+                .lockedUntil(order.getCreatedAt())
+                .createdAt(order.getCreatedAt())
                 .build();
-        repository.save(order);
-        produce.sendEvent(jsonUtil.toJson(createPayload(order)));
-        return order;
     }
 
     private Event createPayload(Order order){
-        var event = Event
-                    .builder()
-                    .payload(order)
+        var event = buildPayload(order);
+        eventService.save(event);
+        return event;
+    }
+
+    private Event buildPayload(Order order){
+        return Event
+                .builder()
+                .id(idGenerator.nextId())
+                .payload(order)
                 .orderId(order.getId())
                 .transactionId(order.getTransactionId())
                 .createdAt(LocalDateTime.now())
                 .build();
-        eventService.save(event);
-        return event;
     }
-}
\ No newline at end of file
+}
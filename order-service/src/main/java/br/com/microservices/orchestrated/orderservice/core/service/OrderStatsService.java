@@ -0,0 +1,259 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.config.mongo.MongoConfig;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.document.OrderRollup;
+import br.com.microservices.orchestrated.orderservice.core.document.OrderStatus;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderStats;
+import br.com.microservices.orchestrated.orderservice.core.enums.EGranularity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.micrometer.common.util.StringUtils.isEmpty;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Per-minute and per-hour rollups of ended sagas, kept up to date with {@code $inc} as endings are stored,
+ * so statistics are read from at most {@value #MAX_BUCKETS} small documents instead of scanning events.
+ * An order is counted once: its {@link OrderStatus} is claimed for a rollup batch, the batch id is pushed
+ * onto every rollup it increments so a retried batch is not applied twice, and {@code countedAt} is only
+ * set once the increments are stored. Statuses left uncounted by a failed rollup are retried by
+ * {@link #sweep}. Buckets are keyed on the time the ending was stored, which is the event createdAt set
+ * when the saga is notified, not on when the order was placed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStatsService {
+    private static final String SUCCESS = "SUCCESS";
+    private static final int MAX_BUCKETS = 1440;
+    private static final int TOP_PRODUCTS = 10;
+    private static final int APPLIED_BATCHES = 100;
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    @Qualifier(MongoConfig.READ_TEMPLATE)
+    private final MongoTemplate readTemplate;
+
+    @Value("${order.stats.sweep-delay-ms}")
+    private long sweepDelayMs;
+
+    @Value("${order.stats.sweep-batch-size}")
+    private int sweepBatchSize;
+
+    /**
+     * Counts the endings of orders that were not counted yet. Must run after {@link OrderStatusService#record}
+     * stored their statuses. A failed rollup is left to {@link #sweep}.
+     */
+    public void record(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            var batch = UUID.randomUUID().toString();
+            var claimed = claim(batch, events.stream().map(Event::getOrderId).distinct().toList());
+            var endings = new LinkedHashMap<String, Event>();
+            events.stream()
+                    .filter(event -> claimed.contains(event.getOrderId()))
+                    .forEach(event -> endings.putIfAbsent(event.getOrderId(), event));
+            rollup(batch, List.copyOf(endings.values()));
+        } catch (RuntimeException ex) {
+            log.warn("Error rolling up {} saga endings, they will be counted by the next sweep", events.size(), ex);
+        }
+    }
+
+    /**
+     * Counts the statuses still missing {@code countedAt} after {@code order.stats.sweep-delay-ms}, rebuilding
+     * their endings from the stored orders. A batch claimed by a failed rollup keeps its id, so increments it
+     * already stored are skipped.
+     */
+    @Scheduled(fixedDelayString = "${order.stats.sweep-interval-ms}")
+    public void sweep() {
+        var cutoff = LocalDateTime.now().minus(Duration.ofMillis(sweepDelayMs));
+        var pending = mongoTemplate.find(query(where("countedAt").is(null).and("updatedAt").lte(cutoff))
+                .limit(sweepBatchSize), OrderStatus.class);
+        if (pending.isEmpty()) {
+            return;
+        }
+        var unclaimed = pending.stream().filter(status -> status.getRollupBatch() == null).map(OrderStatus::getOrderId).toList();
+        var batches = pending.stream()
+                .filter(status -> status.getRollupBatch() != null)
+                .collect(Collectors.groupingBy(OrderStatus::getRollupBatch, Collectors.toList()));
+        if (!unclaimed.isEmpty()) {
+            var batch = UUID.randomUUID().toString();
+            var claimed = claim(batch, unclaimed);
+            batches.put(batch, pending.stream().filter(status -> claimed.contains(status.getOrderId())).toList());
+        }
+        var orders = mongoTemplate.find(query(where("_id").in(pending.stream().map(OrderStatus::getOrderId).toList())), Order.class)
+                .stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        batches.forEach((batch, statuses) -> rollup(batch, statuses.stream()
+                .map(status -> Event
+                        .builder()
+                        .orderId(status.getOrderId())
+                        .transactionId(status.getTransactionId())
+                        .status(status.getStatus())
+                        .createdAt(status.getUpdatedAt())
+                        .payload(orders.get(status.getOrderId()))
+                        .build())
+                .toList()));
+        log.info("Swept {} uncounted saga endings into the stats rollups", pending.size());
+    }
+
+    private Set<String> claim(String batch, List<String> orderIds) {
+        mongoTemplate.updateMulti(query(where("_id").in(orderIds).and("countedAt").is(null).and("rollupBatch").is(null)),
+                new Update().set("rollupBatch", batch), OrderStatus.class);
+        var claimed = query(where("rollupBatch").is(batch));
+        claimed.fields().include("_id");
+        return mongoTemplate.find(claimed, OrderStatus.class).stream().map(OrderStatus::getOrderId).collect(Collectors.toSet());
+    }
+
+    private void rollup(String batch, List<Event> endings) {
+        var rollups = new HashMap<String, Rollup>();
+        endings.forEach(event -> {
+            for (var granularity : EGranularity.values()) {
+                var bucket = event.getCreatedAt().truncatedTo(granularity.getUnit());
+                rollups.computeIfAbsent(id(granularity, bucket), id -> new Rollup(granularity, bucket)).add(event);
+            }
+        });
+        if (!rollups.isEmpty()) {
+            var operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OrderRollup.class);
+            rollups.forEach((id, rollup) -> operations.upsert(
+                    query(where("_id").is(id).and("batches").ne(batch)),
+                    rollup.toUpdate().push("batches").slice(-APPLIED_BATCHES).each(batch)));
+            try {
+                operations.execute();
+            } catch (BulkOperationException ex) {
+                // the upsert of a rollup that already holds the batch collides with it on _id: already applied
+                if (ex.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY)) {
+                    throw ex;
+                }
+            }
+        }
+        mongoTemplate.updateMulti(query(where("rollupBatch").is(batch)),
+                new Update().set("countedAt", LocalDateTime.now()).unset("rollupBatch"), OrderStatus.class);
+    }
+
+    public OrderStats stats(EGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        var end = (to == null ? LocalDateTime.now() : to).truncatedTo(granularity.getUnit());
+        var start = (from == null ? end.minus(59, granularity.getUnit()) : from).truncatedTo(granularity.getUnit());
+        if (start.isAfter(end) || granularity.getUnit().between(start, end) >= MAX_BUCKETS) {
+            throw new ValidationException("Stats range must cover between 1 and " + MAX_BUCKETS + " buckets!");
+        }
+        var rollups = readTemplate.find(query(where("granularity").is(granularity).and("bucket").gte(start).lte(end))
+                .with(Sort.by("bucket")), OrderRollup.class);
+
+        var statuses = new HashMap<String, Long>();
+        var products = new HashMap<String, Long>();
+        var orders = 0L;
+        var totalAmount = 0.0;
+        for (var rollup : rollups) {
+            orders += rollup.getOrders();
+            totalAmount += rollup.getTotalAmount();
+            merge(statuses, rollup.getStatuses());
+            merge(products, rollup.getProducts());
+        }
+        var succeeded = statuses.getOrDefault(SUCCESS, 0L);
+        return OrderStats
+                .builder()
+                .granularity(granularity)
+                .from(start)
+                .to(end)
+                .orders(orders)
+                .statuses(statuses)
+                .successRatio(orders == 0 ? 0 : (double) succeeded / orders)
+                .averageTotalAmount(orders == 0 ? 0 : totalAmount / orders)
+                .topProducts(products.entrySet().stream()
+                        .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                        .limit(TOP_PRODUCTS)
+                        .map(entry -> new OrderStats.ProductCount(entry.getKey(), entry.getValue()))
+                        .toList())
+                .buckets(rollups.stream()
+                        .map(rollup -> new OrderStats.Bucket(rollup.getBucket(), rollup.getOrders(), rollup.getStatuses(), rollup.getTotalAmount()))
+                        .toList())
+                .build();
+    }
+
+    private static String id(EGranularity granularity, LocalDateTime bucket) {
+        return granularity + ":" + bucket;
+    }
+
+    private static String key(String value) {
+        return value.replace('.', '_').replace('$', '_');
+    }
+
+    private static void merge(Map<String, Long> target, Map<String, Long> source) {
+        if (source != null) {
+            source.forEach((key, count) -> target.merge(key, count, Long::sum));
+        }
+    }
+
+    private static final class Rollup {
+        private final EGranularity granularity;
+        private final LocalDateTime bucket;
+        private final Map<String, Long> statuses = new HashMap<>();
+        private final Map<String, Long> products = new HashMap<>();
+        private long orders;
+        private double totalAmount;
+        private long totalItems;
+
+        private Rollup(EGranularity granularity, LocalDateTime bucket) {
+            this.granularity = granularity;
+            this.bucket = bucket;
+        }
+
+        private void add(Event event) {
+            orders++;
+            statuses.merge(key(isEmpty(event.getStatus()) ? "UNKNOWN" : event.getStatus()), 1L, Long::sum);
+            var payload = event.getPayload();
+            if (payload == null) {
+                return;
+            }
+            totalAmount += payload.getTotalAmount();
+            totalItems += payload.getTotalItems();
+            if (payload.getProducts() != null) {
+                payload.getProducts().forEach(item -> {
+                    if (item.getProduct() != null && !isEmpty(item.getProduct().getCode())) {
+                        products.merge(key(item.getProduct().getCode()), (long) item.getQuantity(), Long::sum);
+                    }
+                });
+            }
+        }
+
+        private Update toUpdate() {
+            var update = new Update()
+                    .setOnInsert("granularity", granularity)
+                    .setOnInsert("bucket", bucket)
+                    .inc("orders", orders)
+                    .inc("totalAmount", totalAmount)
+                    .inc("totalItems", totalItems);
+            statuses.forEach((status, count) -> update.inc("statuses." + status, count));
+            products.forEach((code, quantity) -> update.inc("products." + code, quantity));
+            return update;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.config.mongo.MongoConfig;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * One small document per order, keyed by orderId and overwritten as saga endings are stored, so the state of
+ * an order is a point lookup on {@code _id} instead of a search for its latest event. Last ending wins; whether
+ * the order was counted in the stats rollups is tracked by {@link OrderStatsService} on the same document. Single
+ * lookups read the primary so a client polling its own order sees the ending it was just told about; the
+ * batch lookup is a dashboard query and reads the read template.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderStatusService {
+    private static final int MAX_IDS = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    @Qualifier(MongoConfig.READ_TEMPLATE)
+    private final MongoTemplate readTemplate;
+
+    public void record(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        var operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OrderStatus.class);
+        events.forEach(event -> operations.upsert(query(where("_id").is(event.getOrderId())), statusUpdate(event)));
+        operations.execute();
+    }
+
+    public OrderStatus findByOrderId(String orderId) {
+        return Optional
+                .ofNullable(mongoTemplate.findById(orderId, OrderStatus.class))
+                .orElseThrow(() -> new ValidationException("Order status not found"));
+    }
+
+    public List<OrderStatus> findByOrderIds(List<String> orderIds) {
+        if (orderIds == null || orderIds.isEmpty() || orderIds.size() > MAX_IDS) {
+            throw new ValidationException("Between 1 and " + MAX_IDS + " orderIds must be informed!");
+        }
+        return readTemplate.find(query(where("_id").in(orderIds.stream().distinct().toList())), OrderStatus.class);
+    }
+
+    private static Update statusUpdate(Event event) {
+        var update = new Update()
+                .set("transactionId", event.getTransactionId())
+                .set("status", event.getStatus())
+                .set("source", event.getSource())
+                .set("updatedAt", event.getCreatedAt());
+        var payload = event.getPayload();
+        if (payload != null) {
+            update
+                    .set("totalAmount", payload.getTotalAmount())
+                    .set("totalItems", payload.getTotalItems())
+                    .set("createdAt", payload.getCreatedAt());
+        }
+        return update;
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.core.completion.SagaCompletionRegistry;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import static io.micrometer.common.util.StringUtils.isEmpty;
+
+/**
+ * Waits for a saga to end without polling Mongo. The waiter is registered before the current event is read,
+ * so an ending stored in between is not missed. On timeout the latest event is returned as pending, which also
+ * covers endings consumed by another instance of the consumer group. Orders not stored yet, such as those still
+ * in the intake queue or the outbox, are reported as pending.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SagaCompletionService {
+    private static final String COMPLETED = "completed";
+    private static final String PENDING = "pending";
+
+    private final SagaCompletionRegistry registry;
+    private final EventService eventService;
+
+    @Value("${order.completion.timeout-ms}")
+    private long timeoutMs;
+
+    public DeferredResult<ResponseEntity<Event>> awaitCompletion(String orderId) {
+        var result = new DeferredResult<ResponseEntity<Event>>(timeoutMs);
+        Consumer<Event> waiter = event -> result.setResult(ResponseEntity.ok(event));
+        registry.register(orderId, waiter);
+        result.onCompletion(() -> registry.unregister(orderId, waiter));
+        result.onTimeout(() -> result.setResult(ResponseEntity.accepted().body(currentEvent(orderId))));
+        completeIfEnded(orderId, waiter);
+        return result;
+    }
+
+    public SseEmitter subscribe(String orderId) {
+        var emitter = new SseEmitter(timeoutMs);
+        Consumer<Event> waiter = event -> send(emitter, COMPLETED, event);
+        registry.register(orderId, waiter);
+        emitter.onCompletion(() -> registry.unregister(orderId, waiter));
+        emitter.onTimeout(() -> send(emitter, PENDING, currentEvent(orderId)));
+        emitter.onError(ex -> registry.unregister(orderId, waiter));
+        completeIfEnded(orderId, waiter);
+        return emitter;
+    }
+
+    private void completeIfEnded(String orderId, Consumer<Event> waiter) {
+        try {
+            var event = currentEvent(orderId);
+            if (!isEmpty(event.getStatus())) {
+                registry.complete(event);
+            }
+        } catch (RuntimeException ex) {
+            registry.unregister(orderId, waiter);
+            throw ex;
+        }
+    }
+
+    private Event currentEvent(String orderId) {
+        var filter = new EventFilter();
+        filter.setOrderId(orderId);
+        try {
+            return eventService.findByFilter(filter);
+        } catch (ValidationException ex) {
+            return Event.builder().orderId(orderId).build();
+        }
+    }
+
+    private static void send(SseEmitter emitter, String name, Event event) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(event));
+            emitter.complete();
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Could not push saga {} event for order {}", name, event.getOrderId(), ex);
+            emitter.completeWithError(ex);
+        }
+    }
+}
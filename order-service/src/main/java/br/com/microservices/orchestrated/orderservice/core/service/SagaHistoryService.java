@@ -0,0 +1,126 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.config.mongo.MongoConfig;
+import br.com.microservices.orchestrated.orderservice.core.document.History;
+import br.com.microservices.orchestrated.orderservice.core.document.SagaHistoryEntry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static io.micrometer.common.util.StringUtils.isEmpty;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Saga steps stored one per document in a time-series collection, with source and status as metadata, so
+ * step-level queries run over bucketed storage instead of unwinding the history array of each event.
+ * Time-series collections cannot carry a unique index, so a step written twice by a redelivered reply is
+ * collapsed on read by transactionId, source, status and createdAt. Searches over-fetch and keep reading until
+ * the page holds {@code limit} distinct steps, so duplicates do not shorten it.
+ */
+@Service
+@RequiredArgsConstructor
+public class SagaHistoryService {
+    private static final int MAX_LIMIT = 1000;
+    private static final int OVER_FETCH = 2;
+
+    private final MongoTemplate mongoTemplate;
+    @Qualifier(MongoConfig.READ_TEMPLATE)
+    private final MongoTemplate readTemplate;
+
+    @PostConstruct
+    public void createCollection() {
+        if (!mongoTemplate.collectionExists(SagaHistoryEntry.class)) {
+            mongoTemplate.createCollection(SagaHistoryEntry.class);
+        }
+        mongoTemplate
+                .indexOps(SagaHistoryEntry.class)
+                .ensureIndex(new Index().on("transactionId", Sort.Direction.ASC).on("createdAt", Sort.Direction.ASC));
+    }
+
+    public void record(String transactionId, List<History> history) {
+        if (history == null || history.isEmpty()) {
+            return;
+        }
+        mongoTemplate.insert(history.stream().map(step -> toEntry(transactionId, step)).toList(), SagaHistoryEntry.class);
+    }
+
+    public List<History> findByTransactionId(String transactionId) {
+        return distinct(mongoTemplate
+                .find(query(where("transactionId").is(transactionId)).with(Sort.by("createdAt")), SagaHistoryEntry.class))
+                .stream()
+                .map(SagaHistoryService::toHistory)
+                .toList();
+    }
+
+    public List<SagaHistoryEntry> search(String source, String status, LocalDateTime from, LocalDateTime to, int limit) {
+        if (from == null) {
+            throw new ValidationException("from must be informed!");
+        }
+        var criteria = where("createdAt").gte(from).lt(to == null ? LocalDateTime.now() : to);
+        addMeta(criteria, "meta.source", source);
+        addMeta(criteria, "meta.status", status);
+        var size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        var batchSize = size * OVER_FETCH;
+        var query = query(criteria).with(Sort.by(Sort.Direction.DESC, "createdAt", "_id")).limit(batchSize);
+        var steps = new LinkedHashMap<StepKey, SagaHistoryEntry>();
+        for (var skip = 0L; steps.size() < size; skip += batchSize) {
+            var batch = readTemplate.find(query.skip(skip), SagaHistoryEntry.class);
+            batch.forEach(entry -> steps.putIfAbsent(StepKey.of(entry), entry));
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return steps.values().stream().limit(size).toList();
+    }
+
+    private static List<SagaHistoryEntry> distinct(List<SagaHistoryEntry> entries) {
+        var steps = new LinkedHashMap<StepKey, SagaHistoryEntry>();
+        entries.forEach(entry -> steps.putIfAbsent(StepKey.of(entry), entry));
+        return List.copyOf(steps.values());
+    }
+
+    private static void addMeta(Criteria criteria, String field, String value) {
+        if (!isEmpty(value)) {
+            criteria.and(field).is(value);
+        }
+    }
+
+    private static SagaHistoryEntry toEntry(String transactionId, History step) {
+        return SagaHistoryEntry
+                .builder()
+                .meta(new SagaHistoryEntry.Meta(step.getSource(), step.getStatus()))
+                .transactionId(transactionId)
+                .message(step.getMessage())
+                .createdAt(step.getCreatedAt() == null ? LocalDateTime.now() : step.getCreatedAt())
+                .build();
+    }
+
+    private record StepKey(String transactionId, String source, String status, LocalDateTime createdAt) {
+        static StepKey of(SagaHistoryEntry entry) {
+            var meta = entry.getMeta();
+            return new StepKey(entry.getTransactionId(), meta == null ? null : meta.getSource(),
+                    meta == null ? null : meta.getStatus(), entry.getCreatedAt());
+        }
+    }
+
+    private static History toHistory(SagaHistoryEntry entry) {
+        return History
+                .builder()
+                .source(entry.getMeta().getSource())
+                .status(entry.getMeta().getStatus())
+                .message(entry.getMessage())
+                .createdAt(entry.getCreatedAt())
+                .build();
+    }
+}
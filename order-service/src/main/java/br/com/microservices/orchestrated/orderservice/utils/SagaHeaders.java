@@ -0,0 +1,10 @@
+package br.com.microservices.orchestrated.orderservice.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SagaHeaders {
+
+    public static final String CONTENT_TYPE = "content-type";
+}
@@ -0,0 +1,14 @@
+package br.com.microservices.orchestrated.orderservice.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+
+@SpringBootApplication
+@EntityScan("br.com.microservices.orchestrated.orderservice.core.document")
+public class ReactiveOrderServiceApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveOrderServiceApplication.class, args);
+	}
+}
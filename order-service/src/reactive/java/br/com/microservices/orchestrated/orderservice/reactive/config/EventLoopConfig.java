@@ -0,0 +1,21 @@
+package br.com.microservices.orchestrated.orderservice.reactive.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.LoopResources;
+
+@Configuration
+public class EventLoopConfig {
+
+    @Value("${order.reactive.event-loop-threads}")
+    private int eventLoopThreads;
+
+    @Bean
+    public WebServerFactoryCustomizer<NettyReactiveWebServerFactory> eventLoopCustomizer() {
+        return factory -> factory.addServerCustomizers(server ->
+                server.runOn(LoopResources.create("order-event-loop", eventLoopThreads, true)));
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.microservices.orchestrated.orderservice.reactive.config;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.ExceptionDetails;
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<ExceptionDetails> handleValidationException(ValidationException validationException) {
+        var details = new ExceptionDetails(HttpStatus.BAD_REQUEST.value(), validationException.getMessage());
+        return new ResponseEntity<>(details, HttpStatus.BAD_REQUEST);
+    }
+}
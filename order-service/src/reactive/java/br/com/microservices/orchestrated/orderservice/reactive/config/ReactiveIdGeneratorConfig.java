@@ -0,0 +1,74 @@
+package br.com.microservices.orchestrated.orderservice.reactive.config;
+
+import br.com.microservices.orchestrated.orderservice.core.enums.EIdStrategy;
+import br.com.microservices.orchestrated.orderservice.core.id.IdGenerator;
+import br.com.microservices.orchestrated.orderservice.core.id.LeasedIdGenerator;
+import br.com.microservices.orchestrated.orderservice.core.id.SnowflakeIdGenerator;
+import br.com.microservices.orchestrated.orderservice.core.id.UlidIdGenerator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+/**
+ * Same id rules as the servlet build: an explicit order.id.worker-id, or a worker id leased from Mongo and
+ * renewed in the background. Startup fails when neither is possible.
+ */
+@Slf4j
+@Configuration
+public class ReactiveIdGeneratorConfig {
+
+    @Value("${order.id.strategy}")
+    private EIdStrategy strategy;
+
+    @Value("${order.id.worker-id}")
+    private long workerId;
+
+    @Value("${order.id.lease.ttl-ms}")
+    private long leaseTtlMs;
+
+    @Value("${order.id.lease.renew-ms}")
+    private long leaseRenewMs;
+
+    private ReactiveWorkerIdLease lease;
+    private Disposable renewal;
+
+    @Bean
+    public IdGenerator idGenerator(ReactiveMongoTemplate mongoTemplate) {
+        if (strategy == EIdStrategy.ULID) {
+            return new UlidIdGenerator();
+        }
+        if (workerId >= 0) {
+            return new SnowflakeIdGenerator(workerId);
+        }
+        if (leaseRenewMs >= leaseTtlMs) {
+            throw new IllegalStateException("order.id.lease.renew-ms must be shorter than order.id.lease.ttl-ms");
+        }
+        lease = new ReactiveWorkerIdLease(mongoTemplate, Duration.ofMillis(leaseTtlMs));
+        var generator = new SnowflakeIdGenerator(lease.acquire().block());
+        renewal = Flux
+                .interval(Duration.ofMillis(leaseRenewMs))
+                .concatMap(tick -> lease
+                        .renew()
+                        .doOnError(ex -> log.error("Error renewing worker id lease", ex))
+                        .onErrorComplete())
+                .subscribe();
+        return new LeasedIdGenerator(generator, lease::isHeld);
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (renewal != null) {
+            renewal.dispose();
+        }
+        if (lease != null) {
+            lease.release().block();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.microservices.orchestrated.orderservice.reactive.config;
+
+import br.com.microservices.orchestrated.orderservice.core.enums.ECodec;
+import br.com.microservices.orchestrated.orderservice.utils.EventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderOptions;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class ReactiveKafkaConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @Value("${spring.kafka.consumer.auto-offset-reset}")
+    private String autoOffsetReset;
+
+    @Value("${spring.kafka.topic.notify-ending}")
+    private String notifyEndingTopic;
+
+    @Value("${spring.kafka.topic.saga-history}")
+    private String sagaHistoryTopic;
+
+    @Value("${spring.kafka.delivery.max-in-flight}")
+    private int maxInFlight;
+
+    @Value("${spring.kafka.delivery.profiles.default.linger-ms}")
+    private int lingerMs;
+
+    @Value("${spring.kafka.delivery.profiles.default.batch-size}")
+    private int batchSize;
+
+    @Value("${spring.kafka.delivery.profiles.default.compression-type}")
+    private String compressionType;
+
+    @Bean
+    public EventCodec eventCodec(ObjectMapper objectMapper, @Value("${spring.kafka.codec}") ECodec codec) {
+        return new EventCodec(objectMapper, codec);
+    }
+
+    @Bean
+    public KafkaSender<String, byte[]> kafkaSender() {
+        return KafkaSender.create(SenderOptions.<String, byte[]>create(producerProps()).maxInFlight(maxInFlight));
+    }
+
+    @Bean
+    public KafkaReceiver<String, byte[]> notifyEndingReceiver() {
+        return receiver(notifyEndingTopic);
+    }
+
+    @Bean
+    public KafkaReceiver<String, byte[]> sagaHistoryReceiver() {
+        return receiver(sagaHistoryTopic);
+    }
+
+    private KafkaReceiver<String, byte[]> receiver(String topic) {
+        var options = ReceiverOptions.<String, byte[]>create(consumerProps()).subscription(List.of(topic));
+        return KafkaReceiver.create(options);
+    }
+
+    private Map<String, Object> consumerProps() {
+        var props = new HashMap<String, Object>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
+        return props;
+    }
+
+    private Map<String, Object> producerProps() {
+        var props = new HashMap<String, Object>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        return props;
+    }
+}
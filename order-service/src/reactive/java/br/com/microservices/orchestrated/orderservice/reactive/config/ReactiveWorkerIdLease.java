@@ -0,0 +1,95 @@
+package br.com.microservices.orchestrated.orderservice.reactive.config;
+
+import br.com.microservices.orchestrated.orderservice.core.document.WorkerLease;
+import br.com.microservices.orchestrated.orderservice.core.id.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Reactive counterpart of the worker id lease: an upsert that only matches an expired lease, trying the next
+ * id on a duplicate key. The lease counts as held until ttl after the last successful renewal was requested.
+ */
+@Slf4j
+public class ReactiveWorkerIdLease {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final Duration ttl;
+    private final String owner = UUID.randomUUID().toString();
+    private volatile long workerId = -1;
+    private volatile long heldUntil;
+
+    public ReactiveWorkerIdLease(ReactiveMongoTemplate mongoTemplate, Duration ttl) {
+        this.mongoTemplate = mongoTemplate;
+        this.ttl = ttl;
+    }
+
+    public Mono<Long> acquire() {
+        return Flux
+                .range(0, (int) SnowflakeIdGenerator.MAX_WORKER_ID + 1)
+                .concatMap(id -> tryAcquire(id.longValue()), 1)
+                .next()
+                .switchIfEmpty(Mono.error(new IllegalStateException(
+                        "Every worker id up to " + SnowflakeIdGenerator.MAX_WORKER_ID + " is leased")));
+    }
+
+    public Mono<Void> renew() {
+        if (workerId < 0) {
+            return Mono.empty();
+        }
+        var requestedAt = System.currentTimeMillis();
+        return mongoTemplate
+                .updateFirst(query(where("_id").is(workerId).and("owner").is(owner)), leaseUpdate(LocalDateTime.now()), WorkerLease.class)
+                .doOnNext(result -> {
+                    if (result.getMatchedCount() == 0) {
+                        heldUntil = 0;
+                        log.error("Lease on worker id {} was taken over, no more ids will be generated", workerId);
+                    } else {
+                        heldUntil = requestedAt + ttl.toMillis();
+                    }
+                })
+                .then();
+    }
+
+    public boolean isHeld() {
+        return System.currentTimeMillis() < heldUntil;
+    }
+
+    public Mono<Void> release() {
+        if (workerId < 0) {
+            return Mono.empty();
+        }
+        heldUntil = 0;
+        return mongoTemplate.remove(query(where("_id").is(workerId).and("owner").is(owner)), WorkerLease.class).then();
+    }
+
+    private Mono<Long> tryAcquire(long id) {
+        var requestedAt = System.currentTimeMillis();
+        var now = LocalDateTime.now();
+        return mongoTemplate
+                .upsert(query(where("_id").is(id).and("expiresAt").lt(now)), leaseUpdate(now), WorkerLease.class)
+                .map(result -> {
+                    workerId = id;
+                    heldUntil = requestedAt + ttl.toMillis();
+                    log.info("Leased worker id {} as {}", id, owner);
+                    return id;
+                })
+                .onErrorResume(DuplicateKeyException.class, ex -> Mono.empty());
+    }
+
+    private Update leaseUpdate(LocalDateTime now) {
+        return new Update()
+                .set("owner", owner)
+                .set("expiresAt", now.plus(ttl));
+    }
+}
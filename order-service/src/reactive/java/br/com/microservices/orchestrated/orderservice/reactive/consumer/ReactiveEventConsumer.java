@@ -0,0 +1,133 @@
+package br.com.microservices.orchestrated.orderservice.reactive.consumer;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.CodecException;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.History;
+import br.com.microservices.orchestrated.orderservice.reactive.service.ReactiveEventService;
+import br.com.microservices.orchestrated.orderservice.utils.EventCodec;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverRecord;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.util.retry.Retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Consumes notify-ending and saga-history. A record is acknowledged only once its handler succeeded or it was
+ * sent to {@code <topic>.DLT}: failures are retried with backoff, except {@link CodecException}, which no retry
+ * can fix. The dead-letter headers use the names Spring Kafka's recoverer writes, so both variants' dead letters
+ * read the same.
+ */
+@Slf4j
+@Component
+public class ReactiveEventConsumer {
+
+    private static final String DLT_SUFFIX = ".DLT";
+    private static final String DLT_ORIGINAL_TOPIC = "kafka_dlt-original-topic";
+    private static final String DLT_ORIGINAL_PARTITION = "kafka_dlt-original-partition";
+    private static final String DLT_ORIGINAL_OFFSET = "kafka_dlt-original-offset";
+    private static final String DLT_EXCEPTION_FQCN = "kafka_dlt-exception-fqcn";
+    private static final String DLT_EXCEPTION_MESSAGE = "kafka_dlt-exception-message";
+
+    private final EventCodec codec;
+    private final ReactiveEventService eventService;
+    private final KafkaReceiver<String, byte[]> notifyEndingReceiver;
+    private final KafkaReceiver<String, byte[]> sagaHistoryReceiver;
+    private final KafkaSender<String, byte[]> sender;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    public ReactiveEventConsumer(EventCodec codec,
+                                 ReactiveEventService eventService,
+                                 @Qualifier("notifyEndingReceiver") KafkaReceiver<String, byte[]> notifyEndingReceiver,
+                                 @Qualifier("sagaHistoryReceiver") KafkaReceiver<String, byte[]> sagaHistoryReceiver,
+                                 KafkaSender<String, byte[]> sender,
+                                 @Value("${order.reactive.consumer.max-retries}") int maxRetries,
+                                 @Value("${order.reactive.consumer.retry-backoff-ms}") long retryBackoffMs,
+                                 @Value("${order.reactive.consumer.max-retry-backoff-ms}") long maxRetryBackoffMs) {
+        this.codec = codec;
+        this.eventService = eventService;
+        this.notifyEndingReceiver = notifyEndingReceiver;
+        this.sagaHistoryReceiver = sagaHistoryReceiver;
+        this.sender = sender;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+        this.maxRetryBackoff = Duration.ofMillis(maxRetryBackoffMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscriptions.add(consume(notifyEndingReceiver, record -> {
+            log.info("Received ending notification event {} from notify-ending topic", record.key());
+            return eventService.notifyEnding(codec.decode(record, Event.class)).then();
+        }));
+        subscriptions.add(consume(sagaHistoryReceiver, record -> {
+            log.info("Received history entry for transaction {} from saga-history topic", record.key());
+            return eventService.appendHistory(record.key(), codec.decode(record, History.class));
+        }));
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+    }
+
+    private Disposable consume(KafkaReceiver<String, byte[]> receiver,
+                               Function<ReceiverRecord<String, byte[]>, Mono<Void>> handler) {
+        return receiver
+                .receive()
+                .concatMap(record -> Mono
+                        .defer(() -> handler.apply(record))
+                        .retryWhen(Retry
+                                .backoff(maxRetries, retryBackoff)
+                                .maxBackoff(maxRetryBackoff)
+                                .filter(ex -> !(ex instanceof CodecException))
+                                .doBeforeRetry(signal -> log.warn("Retrying record {} from topic {} after attempt {} failed",
+                                        record.key(), record.topic(), signal.totalRetries() + 1, signal.failure()))
+                                .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                        .onErrorResume(ex -> deadLetter(record, ex))
+                        .then(Mono.fromRunnable(() -> record.receiverOffset().acknowledge())))
+                .subscribe();
+    }
+
+    /**
+     * Sends the record to its dead-letter topic, retrying until the broker takes it, so it is never acknowledged
+     * without being kept somewhere.
+     */
+    private Mono<Void> deadLetter(ReceiverRecord<String, byte[]> record, Throwable ex) {
+        var topic = record.topic() + DLT_SUFFIX;
+        log.error("Error handling record {} from topic {}, sending it to {}", record.key(), record.topic(), topic, ex);
+        var headers = new RecordHeaders(record.headers().toArray());
+        headers.add(DLT_ORIGINAL_TOPIC, record.topic().getBytes(StandardCharsets.UTF_8));
+        headers.add(DLT_ORIGINAL_PARTITION, String.valueOf(record.partition()).getBytes(StandardCharsets.UTF_8));
+        headers.add(DLT_ORIGINAL_OFFSET, String.valueOf(record.offset()).getBytes(StandardCharsets.UTF_8));
+        headers.add(DLT_EXCEPTION_FQCN, ex.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        headers.add(DLT_EXCEPTION_MESSAGE, String.valueOf(ex.getMessage()).getBytes(StandardCharsets.UTF_8));
+        var deadLetter = new ProducerRecord<>(topic, null, record.key(), record.value(), headers);
+        return sender
+                .send(Mono.just(SenderRecord.create(deadLetter, record.key())))
+                .then()
+                .retryWhen(Retry
+                        .backoff(Long.MAX_VALUE, retryBackoff)
+                        .maxBackoff(maxRetryBackoff)
+                        .doBeforeRetry(signal -> log.error("Error sending record {} to {}, retrying",
+                                record.key(), topic, signal.failure())));
+    }
+}
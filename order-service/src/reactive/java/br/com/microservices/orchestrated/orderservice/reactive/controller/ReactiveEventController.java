@@ -0,0 +1,35 @@
+package br.com.microservices.orchestrated.orderservice.reactive.controller;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventFilter;
+import br.com.microservices.orchestrated.orderservice.reactive.service.ReactiveEventService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/event")
+public class ReactiveEventController {
+
+    private final ReactiveEventService eventService;
+
+    @GetMapping
+    public Mono<Event> findByFilter(EventFilter filters) {
+        return eventService.findByFilter(filters);
+    }
+
+    @GetMapping(value = "all", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<Event> findAll() {
+        return eventService.findAll();
+    }
+
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Event> stream() {
+        return eventService.findAll();
+    }
+}
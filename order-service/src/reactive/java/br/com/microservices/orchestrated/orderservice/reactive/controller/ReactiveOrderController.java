@@ -0,0 +1,24 @@
+package br.com.microservices.orchestrated.orderservice.reactive.controller;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
+import br.com.microservices.orchestrated.orderservice.reactive.service.ReactiveOrderService;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/order")
+public class ReactiveOrderController {
+
+    private final ReactiveOrderService service;
+
+    @PostMapping
+    public Mono<Order> createOrder(@RequestBody OrderRequest order) {
+        return service.createOrder(order);
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.microservices.orchestrated.orderservice.reactive.producer;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.utils.EventCodec;
+import br.com.microservices.orchestrated.orderservice.utils.SagaHeaders;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveSagaProducer {
+
+    private final KafkaSender<String, byte[]> sender;
+    private final EventCodec codec;
+
+    @Value("${spring.kafka.topic.start-saga}")
+    private String startSagaTopic;
+
+    public Mono<Void> sendEvent(Event event) {
+        return Mono
+                .fromCallable(() -> {
+                    var record = new ProducerRecord<>(startSagaTopic, event.getTransactionId(), codec.encode(event));
+                    record.headers().add(SagaHeaders.CONTENT_TYPE, codec.contentType().getBytes(StandardCharsets.UTF_8));
+                    return SenderRecord.create(record, event.getTransactionId());
+                })
+                .flatMap(record -> sender.send(Mono.just(record)).next())
+                .doOnNext(result -> log.info("Send event {} to the topic {}", result.correlationMetadata(), startSagaTopic))
+                .onErrorResume(ex -> {
+                    log.error("Error trying to send event {} to topic {}", event.getTransactionId(), startSagaTopic, ex);
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.microservices.orchestrated.orderservice.reactive.repository;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEventRepository extends ReactiveMongoRepository<Event, String> {
+    Mono<Event> findTop1ByOrderIdOrderByCreatedAtDesc(String orderId);
+    Mono<Event> findTop1ByTransactionIdOrderByCreatedAtDesc(String transactionId);
+    Flux<Event> findAllByOrderByCreatedAtDesc();
+}
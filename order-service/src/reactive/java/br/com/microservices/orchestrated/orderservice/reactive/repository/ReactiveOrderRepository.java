@@ -0,0 +1,8 @@
+package br.com.microservices.orchestrated.orderservice.reactive.repository;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface ReactiveOrderRepository extends ReactiveMongoRepository<Order, String> {
+
+}
@@ -0,0 +1,110 @@
+package br.com.microservices.orchestrated.orderservice.reactive.service;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.History;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventFilter;
+import br.com.microservices.orchestrated.orderservice.reactive.repository.ReactiveEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import static io.micrometer.common.util.StringUtils.isEmpty;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveEventService {
+    private static final String EVENT_HISTORY_FIELD = "eventHistory";
+    private static final int PAYLOAD_BATCH_SIZE = 500;
+
+    private final ReactiveEventRepository repository;
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public Mono<Event> notifyEnding(Event event) {
+        event.setCreatedAt(LocalDateTime.now());
+        return repository
+                .save(event)
+                .flatMap(saved -> updateOrderTotals(saved).thenReturn(saved))
+                .doOnNext(saved -> log.info("Order {} with saga notified! transactionId: {}", saved.getOrderId(), saved.getTransactionId()));
+    }
+
+    public Mono<Void> appendHistory(String transactionId, History history) {
+        var update = new Update()
+                .push(EVENT_HISTORY_FIELD)
+                .sort(Sort.by("createdAt"))
+                .each(history);
+        return mongoTemplate
+                .updateFirst(query(where("transactionId").is(transactionId)), update, Event.class)
+                .doOnNext(result -> {
+                    if (result.getMatchedCount() == 0) {
+                        log.warn("No saga event found to append history for transactionId: {}", transactionId);
+                    }
+                })
+                .then();
+    }
+
+    public Mono<Event> findByFilter(EventFilter filter) {
+        if (isEmpty(filter.getOrderId()) && isEmpty(filter.getTransactionId())) {
+            return Mono.error(new ValidationException("order id or transaction id must be informed!"));
+        }
+        var event = !isEmpty(filter.getOrderId())
+                ? repository.findTop1ByOrderIdOrderByCreatedAtDesc(filter.getOrderId())
+                : repository.findTop1ByTransactionIdOrderByCreatedAtDesc(filter.getTransactionId());
+        return event
+                .flatMap(this::withPayload)
+                .switchIfEmpty(Mono.error(new ValidationException("Order not found")));
+    }
+
+    public Flux<Event> findAll() {
+        return repository
+                .findAllByOrderByCreatedAtDesc()
+                .buffer(PAYLOAD_BATCH_SIZE)
+                .concatMap(this::withPayloads);
+    }
+
+    private Mono<Void> updateOrderTotals(Event event) {
+        var payload = event.getPayload();
+        if (payload == null) {
+            return Mono.empty();
+        }
+        var update = new Update()
+                .set("totalAmount", payload.getTotalAmount())
+                .set("totalItems", payload.getTotalItems());
+        return mongoTemplate.updateFirst(query(where("_id").is(event.getOrderId())), update, Order.class).then();
+    }
+
+    private Mono<Event> withPayload(Event event) {
+        return mongoTemplate
+                .findById(event.getOrderId(), Order.class)
+                .doOnNext(event::setPayload)
+                .thenReturn(event);
+    }
+
+    private Flux<Event> withPayloads(List<Event> events) {
+        var orderIds = events.stream().map(Event::getOrderId).distinct().toList();
+        return mongoTemplate
+                .find(query(where("_id").in(orderIds)), Order.class)
+                .collectMap(Order::getId, Function.identity())
+                .flatMapIterable(orders -> {
+                    events.forEach(event -> event.setPayload(orders.get(event.getOrderId())));
+                    return events;
+                });
+    }
+
+    public Mono<Event> save(Event event) {
+        return repository.save(event);
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.microservices.orchestrated.orderservice.reactive.service;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.id.IdGenerator;
+import br.com.microservices.orchestrated.orderservice.reactive.producer.ReactiveSagaProducer;
+import br.com.microservices.orchestrated.orderservice.reactive.repository.ReactiveOrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveOrderService {
+    private final ReactiveOrderRepository repository;
+    private final ReactiveEventService eventService;
+    private final ReactiveSagaProducer producer;
+    private final IdGenerator idGenerator;
+
+    public Mono<Order> createOrder(OrderRequest orderRequest) {
+        var order = Order
+                .builder()
+                .id(idGenerator.nextId())
+                .products(orderRequest.getProducts())
+                .createdAt(LocalDateTime.now())
+                .transactionId(idGenerator.nextId())
+                .build();
+        return repository
+                .save(order)
+                .flatMap(saved -> eventService.save(createPayload(saved)))
+                .flatMap(producer::sendEvent)
+                .thenReturn(order);
+    }
+
+    private Event createPayload(Order order) {
+        return Event
+                .builder()
+                .id(idGenerator.nextId())
+                .payload(order)
+                .orderId(order.getId())
+                .transactionId(order.getTransactionId())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
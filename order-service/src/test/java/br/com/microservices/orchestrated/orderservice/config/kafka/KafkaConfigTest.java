@@ -0,0 +1,66 @@
+package br.com.microservices.orchestrated.orderservice.config.kafka;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.enums.ECodec;
+import br.com.microservices.orchestrated.orderservice.utils.EventCodec;
+import br.com.microservices.orchestrated.orderservice.utils.SagaHeaders;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EmbeddedKafka(partitions = 1, topics = KafkaConfigTest.TOPIC)
+class KafkaConfigTest {
+
+    static final String TOPIC = "notify-ending";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void defaultListenerFactoryDeliversEncodedRecords(EmbeddedKafkaBroker broker) throws Exception {
+        var config = new KafkaConfig(new KafkaDeliveryProperties());
+        ReflectionTestUtils.setField(config, "bootstrapServers", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(config, "groupId", "order-test");
+        ReflectionTestUtils.setField(config, "autoOffsetReset", "earliest");
+        ReflectionTestUtils.setField(config, "listenerConcurrency", 1);
+        var codec = new EventCodec(MAPPER, ECodec.SMILE);
+        var received = new LinkedBlockingQueue<Event>();
+
+        var container = config.kafkaListenerContainerFactory().createContainer(TOPIC);
+        container.setupMessageListener((MessageListener<String, byte[]>) record -> received.add(codec.decode(record, Event.class)));
+        container.start();
+        try {
+            var record = new ProducerRecord<>(TOPIC, "tx-1", codec.encode(event()));
+            record.headers().add(SagaHeaders.CONTENT_TYPE, codec.contentType().getBytes(StandardCharsets.UTF_8));
+            new KafkaTemplate<>(config.producerFactory()).send(record).get(30, TimeUnit.SECONDS);
+
+            assertEquals(event(), received.poll(30, TimeUnit.SECONDS));
+        } finally {
+            container.stop();
+        }
+    }
+
+    private static Event event() {
+        return Event
+                .builder()
+                .id("1")
+                .transactionId("tx-1")
+                .orderId("order-1")
+                .source("ORCHESTRATOR")
+                .status("SUCCESS")
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+    }
+}
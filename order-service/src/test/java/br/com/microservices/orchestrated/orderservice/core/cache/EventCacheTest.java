@@ -0,0 +1,75 @@
+package br.com.microservices.orchestrated.orderservice.core.cache;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class EventCacheTest {
+
+    private final EventCache cache = new EventCache(100, 60_000, 60_000, new SimpleMeterRegistry());
+
+    @Test
+    void concurrentMissesShareOneLookup() throws Exception {
+        var loads = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            var futures = IntStream.range(0, 8)
+                    .mapToObj(i -> executor.submit(() -> cache.getByOrderId("order-1", () -> {
+                        loads.incrementAndGet();
+                        await(release);
+                        return event("SUCCESS");
+                    })))
+                    .toList();
+            Thread.sleep(100);
+            release.countDown();
+            for (var future : futures) {
+                assertEquals("order-1", future.get().getOrderId());
+            }
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void lookupByOrderIdAlsoServesTransactionId() {
+        var event = cache.getByOrderId("order-1", () -> event("SUCCESS"));
+
+        assertSame(event, cache.getByTransactionId("tx-1", () -> event("FAIL")));
+    }
+
+    @Test
+    void evictingTransactionDropsBothKeys() {
+        cache.getByOrderId("order-1", () -> event(null));
+        cache.evictTransaction("tx-1");
+
+        assertEquals("SUCCESS", cache.getByOrderId("order-1", () -> event("SUCCESS")).getStatus());
+    }
+
+    @Test
+    void putReplacesCachedEvent() {
+        cache.getByTransactionId("tx-1", () -> event(null));
+        cache.put(event("SUCCESS"));
+
+        assertEquals("SUCCESS", cache.getByOrderId("order-1", () -> event("FAIL")).getStatus());
+        assertEquals("SUCCESS", cache.getByTransactionId("tx-1", () -> event("FAIL")).getStatus());
+    }
+
+    private static Event event(String status) {
+        return Event.builder().id("1").orderId("order-1").transactionId("tx-1").status(status).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.microservices.orchestrated.orderservice.core.completion;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SagaCompletionRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SagaCompletionRegistry registry = new SagaCompletionRegistry(meterRegistry);
+
+    @Test
+    void completeNotifiesEveryWaiterOfTheOrderOnce() {
+        var received = new ArrayList<String>();
+        registry.register("order-1", event -> received.add("first:" + event.getStatus()));
+        registry.register("order-1", event -> received.add("second:" + event.getStatus()));
+        registry.register("order-2", event -> received.add("other:" + event.getStatus()));
+
+        registry.complete(event("order-1"));
+        registry.complete(event("order-1"));
+
+        assertEquals(2, received.size());
+        assertTrue(received.containsAll(List.of("first:SUCCESS", "second:SUCCESS")));
+        assertEquals(1.0, meterRegistry.get("saga.completion.waiters").gauge().value());
+    }
+
+    @Test
+    void unregisteredWaiterIsNotNotified() {
+        var received = new ArrayList<Event>();
+        Consumer<Event> waiter = received::add;
+        registry.register("order-1", waiter);
+        registry.unregister("order-1", waiter);
+
+        registry.complete(event("order-1"));
+
+        assertTrue(received.isEmpty());
+        assertEquals(0.0, meterRegistry.get("saga.completion.waiters").gauge().value());
+    }
+
+    private static Event event(String orderId) {
+        return Event.builder().orderId(orderId).status("SUCCESS").build();
+    }
+}
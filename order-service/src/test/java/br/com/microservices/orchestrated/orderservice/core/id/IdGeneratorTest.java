@@ -0,0 +1,91 @@
+package br.com.microservices.orchestrated.orderservice.core.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdGeneratorTest {
+
+    @Test
+    void snowflakeIdsAreUniqueAcrossThreads() throws Exception {
+        var generator = new SnowflakeIdGenerator(7);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            var tasks = new ArrayList<Future<?>>();
+            for (var thread = 0; thread < 8; thread++) {
+                tasks.add(executor.submit(() -> {
+                    for (var i = 0; i < 50_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (var task : tasks) {
+                task.get();
+            }
+        }
+        assertEquals(400_000, ids.size());
+    }
+
+    @Test
+    void snowflakeIdsIncreaseAndSortAsStrings() {
+        var generator = new SnowflakeIdGenerator(1);
+        var previous = generator.nextId();
+        for (var i = 0; i < 100_000; i++) {
+            var next = generator.nextId();
+            assertEquals(13, next.length());
+            assertTrue(next.compareTo(previous) > 0, next + " should sort after " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void snowflakeBorrowsNextMillisecondWhenSequenceRunsOutOrClockGoesBack() {
+        var clock = new AtomicLong(SnowflakeIdGenerator.EPOCH + 1_000);
+        var generator = new SnowflakeIdGenerator(3, clock::get);
+        var ids = new ArrayList<Long>();
+        for (var i = 0; i < 5_000; i++) {
+            ids.add(generator.nextLong());
+        }
+        clock.addAndGet(-500);
+        ids.add(generator.nextLong());
+
+        assertIncreasing(ids);
+        assertEquals(1_001, ids.getLast() >>> (SnowflakeIdGenerator.WORKER_BITS + SnowflakeIdGenerator.SEQUENCE_BITS));
+        assertEquals(3, (ids.getLast() >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_WORKER_ID);
+    }
+
+    @Test
+    void snowflakeRejectsWorkerIdOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+    }
+
+    @Test
+    void ulidsSortByMillisecond() {
+        var clock = new AtomicLong(1_700_000_000_000L);
+        var generator = new UlidIdGenerator(clock::get);
+        var first = generator.nextId();
+        clock.incrementAndGet();
+        var second = generator.nextId();
+
+        assertEquals(26, first.length());
+        assertTrue(second.compareTo(first) > 0);
+        assertTrue(first.chars().allMatch(c -> new String(Crockford.ALPHABET).indexOf(c) >= 0));
+    }
+
+    private static void assertIncreasing(List<Long> ids) {
+        for (var i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i) > ids.get(i - 1));
+        }
+    }
+}
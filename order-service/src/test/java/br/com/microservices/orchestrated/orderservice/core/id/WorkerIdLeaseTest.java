@@ -0,0 +1,60 @@
+package br.com.microservices.orchestrated.orderservice.core.id;
+
+import br.com.microservices.orchestrated.orderservice.core.document.WorkerLease;
+import com.mongodb.client.result.UpdateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WorkerIdLeaseTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final WorkerIdLease lease = new WorkerIdLease(mongoTemplate, Duration.ofSeconds(30));
+
+    @Test
+    void skipsWorkerIdsLeasedByOtherInstances() {
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(WorkerLease.class)))
+                .thenThrow(new DuplicateKeyException("worker 0"))
+                .thenThrow(new DuplicateKeyException("worker 1"))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        assertEquals(2, lease.acquire());
+        assertTrue(lease.isHeld());
+    }
+
+    @Test
+    void failsWhenEveryWorkerIdIsLeased() {
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(WorkerLease.class)))
+                .thenThrow(new DuplicateKeyException("leased"));
+
+        assertThrows(IllegalStateException.class, lease::acquire);
+    }
+
+    @Test
+    void stopsGeneratingOnceTheLeaseIsTakenOver() {
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(WorkerLease.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(WorkerLease.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        var generator = new LeasedIdGenerator(new SnowflakeIdGenerator(lease.acquire()), lease::isHeld);
+        generator.nextId();
+
+        lease.renew();
+
+        assertFalse(lease.isHeld());
+        assertThrows(IllegalStateException.class, generator::nextId);
+    }
+}
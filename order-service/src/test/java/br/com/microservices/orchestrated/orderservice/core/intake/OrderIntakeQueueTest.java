@@ -0,0 +1,100 @@
+package br.com.microservices.orchestrated.orderservice.core.intake;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.IntakeRejectedException;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.service.OrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderIntakeQueueTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+    private final List<Integer> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    void groupsAcceptedOrdersIntoBatches() throws Exception {
+        when(orderService.newOrder(any())).thenAnswer(invocation -> new Order());
+        var written = new CountDownLatch(10);
+        doAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            batches.add(orders.size());
+            orders.forEach(order -> written.countDown());
+            return null;
+        }).when(orderService).createOrders(any());
+        var intake = new OrderIntakeQueue(orderService, new SimpleMeterRegistry(), 100, 4, 50, 1, 10, 5000);
+        intake.start();
+
+        for (int i = 0; i < 10; i++) {
+            intake.accept(new OrderRequest());
+        }
+
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        intake.stop();
+        assertTrue(batches.stream().allMatch(size -> size <= 4));
+        assertEquals(10, batches.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        when(orderService.newOrder(any())).thenAnswer(invocation -> new Order());
+        var writing = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return null;
+        }).when(orderService).createOrders(any());
+        var intake = new OrderIntakeQueue(orderService, new SimpleMeterRegistry(), 2, 1, 1, 1, 10, 5000);
+        intake.start();
+
+        intake.accept(new OrderRequest());
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        intake.accept(new OrderRequest());
+        intake.accept(new OrderRequest());
+
+        assertThrows(IntakeRejectedException.class, () -> intake.accept(new OrderRequest()));
+        release.countDown();
+        intake.stop();
+    }
+
+    @Test
+    void retriesFailedBatchesAndDrainsOnStop() throws Exception {
+        when(orderService.newOrder(any())).thenAnswer(invocation -> new Order());
+        var attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (attempts.incrementAndGet() <= 2) {
+                throw new IllegalStateException("primary stepped down");
+            }
+            List<Order> orders = invocation.getArgument(0);
+            batches.add(orders.size());
+            return null;
+        }).when(orderService).createOrders(any());
+        var registry = new SimpleMeterRegistry();
+        var intake = new OrderIntakeQueue(orderService, registry, 100, 10, 50, 1, 10, 5000);
+        intake.start();
+
+        for (int i = 0; i < 5; i++) {
+            intake.accept(new OrderRequest());
+        }
+        intake.stop();
+
+        assertEquals(5, batches.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(2, registry.counter("order.intake.retries").count());
+        assertEquals(0, registry.counter("order.intake.failed").count());
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.microservices.orchestrated.orderservice.core.outbox;
+
+import br.com.microservices.orchestrated.orderservice.config.kafka.KafkaDeliveryProperties;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.document.OutboxMessage;
+import br.com.microservices.orchestrated.orderservice.core.producer.SagaProducer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final SagaProducer producer = mock(SagaProducer.class);
+    private final BulkOperations orders = mock(BulkOperations.class);
+    private final BulkOperations events = mock(BulkOperations.class);
+    private final BulkOperations releases = mock(BulkOperations.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboxRelay relay = new OutboxRelay(mongoTemplate, producer, new KafkaDeliveryProperties(), meterRegistry);
+
+    @Test
+    void insertsOnlyMissingDocumentsAndReleasesUndeliveredMessages() {
+        configure(180000);
+        var delivered = message("1");
+        var failed = message("2");
+        stubBatch(delivered, failed);
+        when(producer.publish(delivered.getEvent())).thenReturn(CompletableFuture.completedFuture(null));
+        when(producer.publish(failed.getEvent())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        relay.relay();
+
+        var update = ArgumentCaptor.forClass(Update.class);
+        verify(orders, times(2)).upsert(any(Query.class), update.capture());
+        var insert = (Document) update.getValue().getUpdateObject().get("$setOnInsert");
+        assertEquals("tx-2", insert.get("transactionId"));
+        assertNull(update.getValue().getUpdateObject().get("$set"));
+
+        var removed = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(removed.capture(), eq(OutboxMessage.class));
+        assertEquals(List.of("1"), List.copyOf((Collection<?>) ((Document) removed.getValue().getQueryObject().get("_id")).get("$in")));
+        var released = ArgumentCaptor.forClass(Query.class);
+        var backoff = ArgumentCaptor.forClass(Update.class);
+        verify(releases).updateOne(released.capture(), backoff.capture());
+        assertEquals("2", released.getValue().getQueryObject().getString("_id"));
+        assertEquals("owner", released.getValue().getQueryObject().getString("owner"));
+        var lockedUntil = (LocalDateTime) ((Document) backoff.getValue().getUpdateObject().get("$set")).get("lockedUntil");
+        assertTrue(lockedUntil.isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void stopsThePassAndParksMessagesOutOfAttempts() {
+        configure(180000);
+        ReflectionTestUtils.setField(relay, "batchSize", 1);
+        var failed = message("1");
+        failed.setAttempts(3);
+        stubBatch(failed);
+        when(producer.publish(failed.getEvent())).thenThrow(new IllegalStateException("backpressure"));
+
+        relay.relay();
+
+        verify(mongoTemplate, times(2)).find(any(Query.class), eq(OutboxMessage.class));
+        var parked = ArgumentCaptor.forClass(Update.class);
+        verify(releases).updateOne(any(Query.class), parked.capture());
+        assertTrue(parked.getValue().getUpdateObject().containsKey("$unset"));
+        assertEquals(1, meterRegistry.counter("order.outbox.parked").count());
+    }
+
+    @Test
+    void rejectsLeaseShorterThanDeliveryTimeout() {
+        configure(30000);
+
+        assertThrows(IllegalStateException.class, relay::validateLease);
+    }
+
+    private void configure(long leaseMs) {
+        ReflectionTestUtils.setField(relay, "startSagaTopic", "start-saga");
+        ReflectionTestUtils.setField(relay, "batchSize", 500);
+        ReflectionTestUtils.setField(relay, "leaseMs", leaseMs);
+        ReflectionTestUtils.setField(relay, "retryBackoffMs", 1000L);
+        ReflectionTestUtils.setField(relay, "maxRetryBackoffMs", 60000L);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 3);
+    }
+
+    private void stubBatch(OutboxMessage... batch) {
+        when(mongoTemplate.getConverter()).thenReturn(converter());
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(Order.class))).thenReturn(orders);
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(Event.class))).thenReturn(events);
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(OutboxMessage.class))).thenReturn(releases);
+        when(mongoTemplate.find(any(Query.class), eq(OutboxMessage.class))).thenReturn(List.of(batch));
+    }
+
+    private static MappingMongoConverter converter() {
+        var conversions = new MongoCustomConversions(List.of());
+        var context = new MongoMappingContext();
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    private static OutboxMessage message(String id) {
+        var order = Order.builder().id("order-" + id).transactionId("tx-" + id).build();
+        var event = Event.builder().id("event-" + id).orderId(order.getId()).transactionId(order.getTransactionId()).build();
+        return OutboxMessage.builder().id(id).order(order).event(event).owner("owner").build();
+    }
+}
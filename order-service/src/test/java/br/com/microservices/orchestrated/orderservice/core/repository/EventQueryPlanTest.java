@@ -0,0 +1,141 @@
+package br.com.microservices.orchestrated.orderservice.core.repository;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventFilter;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs explain() for every event query shape against an embedded mongod with the indexes declared on
+ * {@link Event}, failing when a shape is planned as a collection scan. The mongod binary is downloaded on
+ * first run, so the test is tagged {@code integration} and runs with {@code gradle integrationTest}, not
+ * {@code gradle test}.
+ */
+@Tag("integration")
+class EventQueryPlanTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+    private static final String LAST_ID = "65a000000000000000000000";
+
+    private static TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void startMongo() {
+        mongod = Mongod.instance().start(Version.Main.V7_0);
+        client = MongoClients.create("mongodb://" + mongod.current().getServerAddress());
+        mongoTemplate = new MongoTemplate(client, "event-query-plan");
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(Event.class)
+                .forEach(mongoTemplate.indexOps(Event.class)::ensureIndex);
+        for (int i = 0; i < 50; i++) {
+            mongoTemplate.insert(Event
+                    .builder()
+                    .orderId("order-" + i % 5)
+                    .transactionId("tx-" + i)
+                    .source(i % 2 == 0 ? "ORCHESTRATOR" : "PAYMENT_SERVICE")
+                    .status(i % 3 == 0 ? "FAIL" : "SUCCESS")
+                    .createdAt(NOW.minusMinutes(i))
+                    .build());
+        }
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        if (mongod != null) {
+            client.close();
+            mongod.close();
+        }
+    }
+
+    static Stream<Arguments> queryShapes() {
+        return Stream.of(
+                Arguments.of("newest first", filter(null, null, null, null, false)),
+                Arguments.of("orderId", filter("order-1", null, null, null, false)),
+                Arguments.of("transactionId", filter(null, "tx-1", null, null, false)),
+                Arguments.of("status", filter(null, null, "SUCCESS", null, false)),
+                Arguments.of("status and range", filter(null, null, "SUCCESS", null, true)),
+                Arguments.of("source and status", filter(null, null, "FAIL", "ORCHESTRATOR", false)),
+                Arguments.of("source", filter(null, null, null, "ORCHESTRATOR", false)),
+                Arguments.of("createdAt range", filter(null, null, null, null, true)),
+                Arguments.of("orderId and range", filter("order-1", null, null, null, true))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queryShapes")
+    void firstPageUsesAnIndex(String shape, EventFilter filter) {
+        assertNoCollectionScan(EventRepositoryCustomImpl.searchQuery(filter, null, null, 51));
+    }
+
+    @ParameterizedTest(name = "{0} after cursor")
+    @MethodSource("queryShapes")
+    void nextPageUsesAnIndex(String shape, EventFilter filter) {
+        assertNoCollectionScan(EventRepositoryCustomImpl.searchQuery(filter, NOW.minusMinutes(10), LAST_ID, 51));
+    }
+
+    private static EventFilter filter(String orderId, String transactionId, String status, String source, boolean range) {
+        var filter = new EventFilter();
+        filter.setOrderId(orderId);
+        filter.setTransactionId(transactionId);
+        filter.setStatus(status);
+        filter.setSource(source);
+        if (range) {
+            filter.setCreatedAtFrom(NOW.minusHours(1));
+            filter.setCreatedAtTo(NOW);
+        }
+        return filter;
+    }
+
+    private static void assertNoCollectionScan(Query query) {
+        var mapper = new QueryMapper(mongoTemplate.getConverter());
+        var entity = mongoTemplate.getConverter().getMappingContext().getPersistentEntity(Event.class);
+        var plan = mongoTemplate
+                .getCollection(mongoTemplate.getCollectionName(Event.class))
+                .find(mapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(mapper.getMappedSort(query.getSortObject(), entity))
+                .limit(query.getLimit())
+                .explain()
+                .get("queryPlanner", Document.class);
+        var stages = new ArrayList<String>();
+        collectStages(plan.get("winningPlan"), stages);
+        assertFalse(stages.contains("COLLSCAN"), () -> "Collection scan for " + query + ": " + stages);
+    }
+
+    private static void collectStages(Object node, List<String> stages) {
+        if (node instanceof Document document) {
+            document.forEach((key, value) -> {
+                if ("stage".equals(key) && value instanceof String stage) {
+                    stages.add(stage);
+                } else {
+                    collectStages(value, stages);
+                }
+            });
+        } else if (node instanceof List<?> list) {
+            list.forEach(item -> collectStages(item, stages));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.OrderBatchException;
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderResult;
+import br.com.microservices.orchestrated.orderservice.core.enums.EOrderResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderBatchServiceTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+    private final OrderBatchService batchService = new OrderBatchService(orderService, new ObjectMapper());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(batchService, "chunkSize", 2);
+        ReflectionTestUtils.setField(batchService, "maxOrders", 10);
+        when(orderService.newOrder(any())).thenAnswer(invocation -> new Order());
+        when(orderService.createBatch(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            return IntStream.range(0, orders.size())
+                    .mapToObj(index -> new OrderResult(index, null, null, EOrderResult.ACCEPTED, null))
+                    .toList();
+        });
+    }
+
+    @Test
+    void createsOrdersInChunksKeepingRequestIndexes() {
+        var results = batchService.createOrders(body("[{\"products\":[]},{},{},{},{}]"));
+
+        assertEquals(List.of(0, 1, 2, 3, 4), results.stream().map(OrderResult::getIndex).toList());
+        verify(orderService, times(3)).createBatch(anyList());
+    }
+
+    @Test
+    void rejectsBodyThatIsNotAnArray() {
+        assertThrows(ValidationException.class, () -> batchService.createOrders(body("{\"products\":[]}")));
+    }
+
+    @Test
+    void rejectsBatchOverTheLimit() {
+        var orders = "[" + String.join(",", Collections.nCopies(11, "{}")) + "]";
+
+        var error = assertThrows(OrderBatchException.class, () -> batchService.createOrders(body(orders)));
+
+        assertEquals(10, error.getResults().size());
+    }
+
+    @Test
+    void returnsTheResultsOfWrittenChunksWithTheError() {
+        var error = assertThrows(OrderBatchException.class, () -> batchService.createOrders(body("[{},{},{},{\"products\":7}]")));
+
+        assertEquals(List.of(0, 1), error.getResults().stream().map(OrderResult::getIndex).toList());
+        verify(orderService, times(1)).createBatch(anyList());
+    }
+
+    private static ByteArrayInputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
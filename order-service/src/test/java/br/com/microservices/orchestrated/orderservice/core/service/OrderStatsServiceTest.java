@@ -0,0 +1,121 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.document.OrderProducts;
+import br.com.microservices.orchestrated.orderservice.core.document.OrderRollup;
+import br.com.microservices.orchestrated.orderservice.core.document.OrderStatus;
+import br.com.microservices.orchestrated.orderservice.core.document.Product;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderStatsServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations operations = mock(BulkOperations.class);
+    private final OrderStatsService statsService = new OrderStatsService(mongoTemplate, mongoTemplate);
+
+    @Test
+    void sumsEventsOfTheSameBucketIntoOneUpsert() {
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(OrderRollup.class))).thenReturn(operations);
+        claims("order-1", "order-2", "order-3");
+        var at = LocalDateTime.of(2024, 5, 1, 10, 15, 30);
+
+        statsService.record(List.of(
+                event("order-1", "SUCCESS", at, 10.0, 2),
+                event("order-2", "SUCCESS", at.plusSeconds(10), 5.0, 1),
+                event("order-3", "FAIL", at.plusMinutes(1), 7.0, 3)));
+
+        var ids = ArgumentCaptor.forClass(Query.class);
+        var updates = ArgumentCaptor.forClass(Update.class);
+        verify(operations, times(3)).upsert(ids.capture(), updates.capture());
+        var increments = new HashMap<String, Document>();
+        for (var i = 0; i < 3; i++) {
+            var id = ids.getAllValues().get(i).getQueryObject().getString("_id");
+            increments.put(id, (Document) updates.getAllValues().get(i).getUpdateObject().get("$inc"));
+        }
+
+        var minute = increments.get("MINUTE:2024-05-01T10:15");
+        assertEquals(2L, minute.get("orders"));
+        assertEquals(15.0, minute.get("totalAmount"));
+        assertEquals(2L, minute.get("statuses.SUCCESS"));
+        assertEquals(3L, minute.get("products.BOOKS"));
+        var hour = increments.get("HOUR:2024-05-01T10:00");
+        assertEquals(3L, hour.get("orders"));
+        assertEquals(1L, hour.get("statuses.FAIL"));
+        assertEquals(6L, hour.get("products.BOOKS"));
+        verify(operations).execute();
+        verify(mongoTemplate).updateMulti(any(Query.class), argThat(update -> update.modifies("countedAt")), eq(OrderStatus.class));
+    }
+
+    @Test
+    void countsOnlyClaimedOrdersAndSkipsRollupsThatAlreadyHoldTheBatch() {
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(OrderRollup.class))).thenReturn(operations);
+        var duplicate = new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0);
+        when(operations.execute()).thenThrow(new BulkOperationException("duplicate", new MongoBulkWriteException(
+                BulkWriteResult.unacknowledged(), List.of(duplicate), null, new ServerAddress(), Set.of())));
+        claims("order-2");
+        var at = LocalDateTime.of(2024, 5, 1, 10, 15, 30);
+
+        statsService.record(List.of(event("order-1", "SUCCESS", at, 10.0, 2), event("order-2", "FAIL", at, 5.0, 1)));
+
+        var ids = ArgumentCaptor.forClass(Query.class);
+        var updates = ArgumentCaptor.forClass(Update.class);
+        verify(operations, times(2)).upsert(ids.capture(), updates.capture());
+        var increments = (Document) updates.getValue().getUpdateObject().get("$inc");
+        assertEquals(1L, increments.get("orders"));
+        assertEquals(1L, increments.get("statuses.FAIL"));
+        assertTrue(ids.getValue().getQueryObject().containsKey("batches"));
+        verify(mongoTemplate).updateMulti(any(Query.class), argThat(update -> update.modifies("countedAt")), eq(OrderStatus.class));
+    }
+
+    @Test
+    void skipsWriteWithoutEvents() {
+        statsService.record(List.of());
+
+        verify(mongoTemplate, times(0)).bulkOps(any(BulkOperations.BulkMode.class), any(Class.class));
+    }
+
+    private void claims(String... orderIds) {
+        when(mongoTemplate.find(any(Query.class), eq(OrderStatus.class))).thenReturn(Arrays.stream(orderIds)
+                .map(orderId -> OrderStatus.builder().orderId(orderId).build())
+                .toList());
+    }
+
+    private static Event event(String orderId, String status, LocalDateTime createdAt, double totalAmount, int quantity) {
+        var order = Order
+                .builder()
+                .totalAmount(totalAmount)
+                .totalItems(quantity)
+                .products(List.of(new OrderProducts(new Product("BOOKS", "10"), quantity)))
+                .build();
+        return Event.builder().orderId(orderId).status(status).createdAt(createdAt).payload(order).build();
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.document.OrderStatus;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OrderStatusServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final MongoTemplate readTemplate = mock(MongoTemplate.class);
+    private final BulkOperations operations = mock(BulkOperations.class);
+    private final OrderStatusService statusService = new OrderStatusService(mongoTemplate, readTemplate);
+
+    @Test
+    void upsertsStatusByOrderId() {
+        when(mongoTemplate.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(OrderStatus.class))).thenReturn(operations);
+        when(operations.execute()).thenReturn(BulkWriteResult.acknowledged(0, 0, 0, 0, List.of(), List.of()));
+        var endedAt = LocalDateTime.of(2024, 5, 1, 10, 15, 30);
+        var event = Event
+                .builder()
+                .orderId("order-1")
+                .transactionId("tx-1")
+                .status("SUCCESS")
+                .source("ORCHESTRATOR")
+                .createdAt(endedAt)
+                .payload(Order.builder().totalAmount(25.0).totalItems(3).build())
+                .build();
+
+        statusService.record(List.of(event));
+
+        var id = ArgumentCaptor.forClass(Query.class);
+        var update = ArgumentCaptor.forClass(Update.class);
+        verify(operations).upsert(id.capture(), update.capture());
+        assertEquals("order-1", id.getValue().getQueryObject().getString("_id"));
+        var set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertEquals("tx-1", set.get("transactionId"));
+        assertEquals("SUCCESS", set.get("status"));
+        assertEquals("ORCHESTRATOR", set.get("source"));
+        assertEquals(endedAt, set.get("updatedAt"));
+        assertEquals(25.0, set.get("totalAmount"));
+        assertEquals(3, set.get("totalItems"));
+        verify(operations).execute();
+    }
+
+    @Test
+    void readsStatusesWithOneInQuery() {
+        statusService.findByOrderIds(List.of("order-1", "order-2", "order-1"));
+
+        var query = ArgumentCaptor.forClass(Query.class);
+        verify(readTemplate).find(query.capture(), eq(OrderStatus.class));
+        var in = (Document) query.getValue().getQueryObject().get("_id");
+        assertEquals(List.of("order-1", "order-2"), in.get("$in"));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void rejectsTooManyOrderIds() {
+        assertThrows(ValidationException.class, () -> statusService.findByOrderIds(Collections.nCopies(1001, "order")));
+        assertThrows(ValidationException.class, () -> statusService.findByOrderIds(List.of()));
+        verify(readTemplate, never()).find(any(Query.class), eq(OrderStatus.class));
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.core.document.SagaHistoryEntry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SagaHistoryServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final SagaHistoryService historyService = new SagaHistoryService(mongoTemplate, mongoTemplate);
+
+    @Test
+    void collapsesStepsWrittenTwice() {
+        var at = LocalDateTime.of(2024, 5, 1, 10, 15, 30);
+        when(mongoTemplate.find(any(Query.class), eq(SagaHistoryEntry.class))).thenReturn(List.of(
+                entry("PAYMENT_SERVICE", "SUCCESS", at),
+                entry("PAYMENT_SERVICE", "SUCCESS", at),
+                entry("INVENTORY_SERVICE", "SUCCESS", at.plusSeconds(1))));
+
+        var history = historyService.findByTransactionId("tx-1");
+
+        assertEquals(2, history.size());
+        assertEquals("PAYMENT_SERVICE", history.get(0).getSource());
+        assertEquals("INVENTORY_SERVICE", history.get(1).getSource());
+    }
+
+    @Test
+    void keepsReadingUntilThePageHoldsLimitDistinctSteps() {
+        var at = LocalDateTime.of(2024, 5, 1, 10, 15, 30);
+        var duplicate = entry("PAYMENT_SERVICE", "SUCCESS", at);
+        when(mongoTemplate.find(any(Query.class), eq(SagaHistoryEntry.class))).thenReturn(
+                List.of(duplicate, duplicate, duplicate, duplicate),
+                List.of(entry("INVENTORY_SERVICE", "SUCCESS", at.minusSeconds(1)),
+                        entry("PRODUCT_VALIDATION_SERVICE", "SUCCESS", at.minusSeconds(2))));
+
+        var steps = historyService.search(null, null, at.minusHours(1), null, 2);
+
+        assertEquals(2, steps.size());
+        assertEquals("PAYMENT_SERVICE", steps.get(0).getMeta().getSource());
+        assertEquals("INVENTORY_SERVICE", steps.get(1).getMeta().getSource());
+        verify(mongoTemplate, times(2)).find(any(Query.class), eq(SagaHistoryEntry.class));
+    }
+
+    private static SagaHistoryEntry entry(String source, String status, LocalDateTime createdAt) {
+        return SagaHistoryEntry
+                .builder()
+                .meta(new SagaHistoryEntry.Meta(source, status))
+                .transactionId("tx-1")
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.microservices.orchestrated.paymentservice.config.exception;
+
+public class KafkaDeliveryException extends RuntimeException {
+
+    public KafkaDeliveryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,9 +1,11 @@
 package br.com.microservices.orchestrated.paymentservice.core.consumer;
 
+import br.com.microservices.orchestrated.paymentservice.core.dto.Event;
 import br.com.microservices.orchestrated.paymentservice.core.service.PaymentService;
-import br.com.microservices.orchestrated.paymentservice.utils.JsonUtil;
+import br.com.microservices.orchestrated.paymentservice.utils.EventCodec;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -12,24 +14,24 @@ import org.springframework.stereotype.Component;
 @AllArgsConstructor
 public class PaymentConsumer {
 
-    private  final JsonUtil jsonUtil;
+    private final EventCodec codec;
     private final PaymentService service;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.payment-success}"
     )
-    public void consumerPaymentSuccessEvent(String payload){
-        log.info("Receiving payment success event {} from payment-success topic",payload);
-        service.realizePayment(jsonUtil.toEvent(payload));
+    public void consumerPaymentSuccessEvent(ConsumerRecord<String, byte[]> record) {
+        log.info("Receiving payment success event {} from payment-success topic", record.key());
+        service.realizePayment(codec.decode(record, Event.class));
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.payment-fail}"
     )
-    public void consumerPaymentFailEvent(String payload) {
-        log.info("Receiving payment fail event {} from payment-fail topic",payload);
-        service.realizeRefund(jsonUtil.toEvent(payload));
+    public void consumerPaymentFailEvent(ConsumerRecord<String, byte[]> record) {
+        log.info("Receiving payment fail event {} from payment-fail topic", record.key());
+        service.realizeRefund(codec.decode(record, Event.class));
     }
 }
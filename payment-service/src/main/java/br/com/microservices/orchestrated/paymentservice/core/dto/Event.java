@@ -18,6 +18,7 @@ public class Event {
     private String id;
     private String transactionId;
     private String orderId;
+    private String sagaType;
     private Order payload;
     private String source;
     private ESagaStatus status;
@@ -0,0 +1,27 @@
+package br.com.microservices.orchestrated.paymentservice.core.enums;
+
+import br.com.microservices.orchestrated.paymentservice.config.exception.CodecException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ECodec {
+
+    JSON("application/json"),
+    SMILE("application/x-jackson-smile");
+
+    private String contentType;
+
+    public static ECodec fromContentType(String contentType) {
+        if (contentType == null) {
+            return JSON;
+        }
+        for (var codec : values()) {
+            if (codec.contentType.equals(contentType)) {
+                return codec;
+            }
+        }
+        throw new CodecException("Unsupported content type " + contentType + "!");
+    }
+}
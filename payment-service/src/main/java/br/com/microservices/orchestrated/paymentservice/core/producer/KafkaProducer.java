@@ -1,27 +1,96 @@
 package br.com.microservices.orchestrated.paymentservice.core.producer;
 
+import br.com.microservices.orchestrated.paymentservice.core.dto.Event;
+import br.com.microservices.orchestrated.paymentservice.core.dto.History;
+import br.com.microservices.orchestrated.paymentservice.utils.EventCodec;
+import br.com.microservices.orchestrated.paymentservice.utils.SagaHeaders;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaSender sender;
+    private final EventCodec codec;
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<List<CompletableFuture<?>>> pendingHistory = ThreadLocal.withInitial(ArrayList::new);
 
     @Value("${spring.kafka.topic.orchestrator}")
     private String orchestratorTopic;
 
-    public void sendEvent(String payload){
+    @Value("${spring.kafka.topic.saga-history}")
+    private String sagaHistoryTopic;
+
+    /**
+     * Drops history queued on this thread by an earlier record that failed before reaching {@link #sendEvent}.
+     */
+    public void startRecord() {
+        pendingHistory.remove();
+    }
+
+    /**
+     * Waits for the event and for the history sent before it on this thread, and rethrows any failure so the
+     * listener container retries the record instead of committing its offset.
+     */
+    public void sendEvent(Event event){
+        var deliveries = pendingHistory.get();
+        try {
+            var payload = codec.encode(event);
+            deliveries.add(sender.send(buildRecord(event, payload)));
+            recordMessageSize(orchestratorTopic, payload);
+            sender.await(deliveries);
+            log.info("Send event {} to the topic {}", event.getTransactionId(), orchestratorTopic);
+        } finally {
+            pendingHistory.remove();
+        }
+    }
+
+    public void sendHistory(String transactionId, History history) {
         try {
-            kafkaTemplate.send(orchestratorTopic, payload);
-            log.info("Send event to the topic {} with data {}", orchestratorTopic, payload);
-        } catch (Exception e) {
-            log.error("Error trying to send data to topic {} with data {}", orchestratorTopic, payload, e);
+            var payload = codec.encode(history);
+            var record = new ProducerRecord<>(sagaHistoryTopic, transactionId, payload);
+            addHeader(record, SagaHeaders.CONTENT_TYPE, codec.contentType());
+            pendingHistory.get().add(sender.send(record));
+            recordMessageSize(sagaHistoryTopic, payload);
+        } catch (RuntimeException ex) {
+            pendingHistory.get().add(CompletableFuture.failedFuture(ex));
+        }
+    }
+
+    private void recordMessageSize(String topic, byte[] payload) {
+        DistributionSummary
+                .builder("saga.message.size")
+                .baseUnit("bytes")
+                .tag("topic", topic)
+                .register(meterRegistry)
+                .record(payload.length);
+    }
+
+    private ProducerRecord<String, byte[]> buildRecord(Event event, byte[] payload) {
+        var record = new ProducerRecord<>(orchestratorTopic, event.getTransactionId(), payload);
+        addHeader(record, SagaHeaders.CONTENT_TYPE, codec.contentType());
+        addHeader(record, SagaHeaders.SOURCE, event.getSource());
+        addHeader(record, SagaHeaders.STATUS, event.getStatus() == null ? null : event.getStatus().name());
+        addHeader(record, SagaHeaders.SAGA_TYPE, event.getSagaType());
+        addHeader(record, SagaHeaders.ORDER_ID, event.getOrderId());
+        return record;
+    }
+
+    private void addHeader(ProducerRecord<String, byte[]> record, String name, String value) {
+        if (value != null) {
+            record.headers().add(name, value.getBytes(StandardCharsets.UTF_8));
         }
     }
 }
@@ -0,0 +1,29 @@
+package br.com.microservices.orchestrated.paymentservice.core.service;
+
+import br.com.microservices.orchestrated.paymentservice.core.dto.Event;
+import br.com.microservices.orchestrated.paymentservice.core.dto.History;
+import br.com.microservices.orchestrated.paymentservice.core.enums.EHistoryMode;
+import br.com.microservices.orchestrated.paymentservice.core.producer.KafkaProducer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class EventHistoryService {
+
+    private final KafkaProducer producer;
+
+    @Value("${saga.history.mode}")
+    private EHistoryMode historyMode;
+
+    public void addHistory(Event event, History history) {
+        if (historyMode == EHistoryMode.LATEST) {
+            event.setEventHistory(null);
+            event.addToEventHistory(history);
+            producer.sendHistory(event.getTransactionId(), history);
+            return;
+        }
+        event.addToEventHistory(history);
+    }
+}
@@ -9,7 +9,8 @@ import br.com.microservices.orchestrated.paymentservice.core.enums.ESagaStatus;
 import br.com.microservices.orchestrated.paymentservice.core.model.Payment;
 import br.com.microservices.orchestrated.paymentservice.core.producer.KafkaProducer;
 import br.com.microservices.orchestrated.paymentservice.core.repository.PaymentRepository;
-import br.com.microservices.orchestrated.paymentservice.utils.JsonUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,15 +26,16 @@ public class PaymentService {
     private static final Double REDUCE_SUM_VALUE =0.0;
     private static final Double MIN_AMOUNT_VALUE = 0.1;
 
-    private final JsonUtil jsonUtil;
     private final KafkaProducer producer;
+    private final EventHistoryService historyService;
+    private final MeterRegistry meterRegistry;
     private final PaymentRepository paymentRepository;
     
     public void realizePayment(Event event){
+        producer.startRecord();
+        var sample = Timer.start(meterRegistry);
         try{
-            checkCurrentValidation(event);
-            createPayment(event);
-            var payment = findPaymentByOrderIdAndTransactionId(event);
+            var payment = findOrCreatePayment(event);
             validateAmount(payment.getTotalAmount());
             changePaymentSuccess(payment);
             handleSuccess(event);
@@ -41,10 +43,20 @@ public class PaymentService {
             log.error("Error trying to make payment: ",ex);
             handleFailedCurrentNotExecuted(event,ex.getMessage());
         }
-        producer.sendEvent(jsonUtil.toJson(event));
+        recordProcessingTime(sample, event);
+        producer.sendEvent(event);
+    }
+
+    private void recordProcessingTime(Timer.Sample sample, Event event) {
+        sample.stop(Timer
+                .builder("saga.step.processing")
+                .tag("source", CURRENT_SOURCE)
+                .tag("status", String.valueOf(event.getStatus()))
+                .register(meterRegistry));
     }
 
     public void realizeRefund(Event event){
+        producer.startRecord();
         event.setStatus(ESagaStatus.FAIL);
         event.setSource(CURRENT_SOURCE);
         try{
@@ -54,7 +66,7 @@ public class PaymentService {
             log.error("Rollback executed for payment: ".concat(ex.getMessage()));
             addHistory(event,"Rollback executed for payment: ".concat(ex.getMessage()));
         }
-        producer.sendEvent(jsonUtil.toJson(event));
+        producer.sendEvent(event);
     }
 
     private void changePaymentStatusToRefund(Event event) {
@@ -71,6 +83,9 @@ public class PaymentService {
     }
 
     private void changePaymentSuccess(Payment payment) {
+        if (payment.getStatus() == EPaymentStatus.SUCCESS) {
+            return;
+        }
         payment.setStatus(EPaymentStatus.SUCCESS);
         save(payment);
     }
@@ -92,7 +107,22 @@ public class PaymentService {
                 .orElseThrow(() -> new ValidationException("There is no payment for this order and transaction"));
     }
 
-    private void createPayment(Event event) {
+    /**
+     * A redelivered record finds the payment of its first attempt and replays that outcome, so the orchestrator
+     * never gets a failure for a payment that went through.
+     */
+    private Payment findOrCreatePayment(Event event) {
+        var payment = paymentRepository
+                .findByOrderIdAndTransactionId(event.getPayload().getId(), event.getPayload().getTransactionId())
+                .orElseGet(() -> createPayment(event));
+        if (payment.getStatus() == EPaymentStatus.REFUND) {
+            throw new ValidationException("Payment was already refunded for this order and transaction.");
+        }
+        setEventAmountItems(event, payment);
+        return payment;
+    }
+
+    private Payment createPayment(Event event) {
         var payment = Payment
                 .builder()
                 .totalItems(calculateTotalItems(event))
@@ -102,7 +132,7 @@ public class PaymentService {
                 .build();
 
         save(payment);
-        setEventAmountItems(event,payment);
+        return payment;
     }
 
     private void setEventAmountItems(Event event, Payment payment) {
@@ -128,13 +158,6 @@ public class PaymentService {
                 .reduce(REDUCE_SUM_VALUE.intValue(), Integer::sum);
     }
 
-    private void checkCurrentValidation(Event event) {
-        if (paymentRepository.existsByOrderIdAndTransactionId(event.getPayload().getId(),
-                                                              event.getPayload().getTransactionId())){
-            throw new ValidationException("There's another transactionId for this validation.");
-        }
-    }
-
     private void handleSuccess(Event event) {
         event.setSource(CURRENT_SOURCE);
         event.setStatus(ESagaStatus.SUCCESS);
@@ -149,7 +172,7 @@ public class PaymentService {
                 .message(message)
                 .createdAt(LocalDateTime.now())
                 .build();
-        event.addToEventHistory(history);
+        historyService.addHistory(event, history);
     }
 
     private void save(Payment payment){
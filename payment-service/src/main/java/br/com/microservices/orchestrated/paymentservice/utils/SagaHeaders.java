@@ -0,0 +1,18 @@
+package br.com.microservices.orchestrated.paymentservice.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Saga routing metadata sent in Kafka record headers. The orchestrator routes by these headers
+ * without deserializing the event payload.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SagaHeaders {
+
+    public static final String SOURCE = "saga-source";
+    public static final String STATUS = "saga-status";
+    public static final String SAGA_TYPE = "saga-type";
+    public static final String ORDER_ID = "saga-order-id";
+    public static final String CONTENT_TYPE = "content-type";
+}
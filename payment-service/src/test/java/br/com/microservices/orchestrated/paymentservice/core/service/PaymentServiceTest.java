@@ -0,0 +1,49 @@
+package br.com.microservices.orchestrated.paymentservice.core.service;
+
+import br.com.microservices.orchestrated.paymentservice.core.dto.Event;
+import br.com.microservices.orchestrated.paymentservice.core.dto.Order;
+import br.com.microservices.orchestrated.paymentservice.core.enums.EPaymentStatus;
+import br.com.microservices.orchestrated.paymentservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.paymentservice.core.model.Payment;
+import br.com.microservices.orchestrated.paymentservice.core.producer.KafkaProducer;
+import br.com.microservices.orchestrated.paymentservice.core.repository.PaymentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentServiceTest {
+
+    private final KafkaProducer producer = mock(KafkaProducer.class);
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final PaymentService paymentService = new PaymentService(
+            producer, new EventHistoryService(producer), new SimpleMeterRegistry(), paymentRepository);
+
+    @Test
+    void redeliveredRecordReplaysTheStoredSuccess() {
+        var payment = Payment
+                .builder()
+                .orderId("order-1")
+                .transactionId("tx-1")
+                .totalAmount(25.0)
+                .totalItems(3)
+                .status(EPaymentStatus.SUCCESS)
+                .build();
+        when(paymentRepository.findByOrderIdAndTransactionId("order-1", "tx-1")).thenReturn(Optional.of(payment));
+        var event = Event.builder().transactionId("tx-1").payload(Order.builder().id("order-1").transactionId("tx-1").build()).build();
+
+        paymentService.realizePayment(event);
+
+        assertEquals(ESagaStatus.SUCCESS, event.getStatus());
+        assertEquals(25.0, event.getPayload().getTotalAmount());
+        verify(paymentRepository, never()).save(any());
+        verify(producer).sendEvent(event);
+    }
+}
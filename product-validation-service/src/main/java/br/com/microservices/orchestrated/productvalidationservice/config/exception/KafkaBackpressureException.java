@@ -0,0 +1,12 @@
+package br.com.microservices.orchestrated.productvalidationservice.config.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class KafkaBackpressureException extends RuntimeException {
+
+    public KafkaBackpressureException(String message) {
+        super(message);
+    }
+}
@@ -1,29 +1,44 @@
 package br.com.microservices.orchestrated.productvalidationservice.config.kafka;
 
+import br.com.microservices.orchestrated.productvalidationservice.config.exception.CodecException;
+import br.com.microservices.orchestrated.productvalidationservice.core.producer.KafkaSender;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 
 import java.util.HashMap;
 import java.util.Map;
 
 @EnableKafka
 @Configuration
+@EnableConfigurationProperties(KafkaDeliveryProperties.class)
 @RequiredArgsConstructor
 public class KafkaConfig {
 
-    public static final int PARTITION_COUNT = 1;
     public static final int REPLICA_COUNT = 1;
 
+    private final KafkaDeliveryProperties deliveryProperties;
+
+    @Value("${spring.kafka.topic.partitions}")
+    private int partitionCount;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
@@ -33,6 +48,12 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.auto-offset-reset}")
     private String autoOffsetReset;
 
+    @Value("${spring.kafka.listener.concurrency}")
+    private int listenerConcurrency;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
     @Value("${spring.kafka.topic.product-validation-success}")
     private String productValidationSuccessTopic;
 
@@ -43,7 +64,7 @@ public class KafkaConfig {
     private String orchestratorTopic;
 
     @Bean
-    public ConsumerFactory<String, String> consumerFactory(){
+    public ConsumerFactory<String, byte[]> consumerFactory(){
         return new DefaultKafkaConsumerFactory<>(consumerProps());
     }
 
@@ -53,34 +74,77 @@ public class KafkaConfig {
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
 
         return props;
     }
 
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
-        return new DefaultKafkaProducerFactory<>(producerProps());
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactory() {
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(listenerConcurrency);
+        factory.setCommonErrorHandler(kafkaErrorHandler());
+        if (virtualThreads) {
+            var executor = new SimpleAsyncTaskExecutor("product-validation-listener-");
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
+        return factory;
     }
 
-    private Map<String, Object> producerProps() {
+    @Bean
+    public CommonErrorHandler kafkaErrorHandler() {
+        var errorHandler = new DefaultErrorHandler();
+        errorHandler.addNotRetryableExceptions(CodecException.class);
+        return errorHandler;
+    }
+
+    @Bean
+    public ProducerFactory<String, byte[]> producerFactory() {
+        return producerFactory(profile(KafkaDeliveryProperties.DEFAULT_PROFILE));
+    }
+
+    private ProducerFactory<String, byte[]> producerFactory(KafkaDeliveryProperties.Profile profile) {
+        return new DefaultKafkaProducerFactory<>(producerProps(profile));
+    }
+
+    private Map<String, Object> producerProps(KafkaDeliveryProperties.Profile profile) {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, profile.getLingerMs());
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, profile.getBatchSize());
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, profile.getCompressionType());
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, profile.isEnableIdempotence());
+        props.put(ProducerConfig.ACKS_CONFIG, profile.getAcks());
         return props;
     }
 
+    private KafkaDeliveryProperties.Profile profile(String name) {
+        return deliveryProperties.getProfiles().getOrDefault(name, new KafkaDeliveryProperties.Profile());
+    }
+
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory) {
+    public KafkaTemplate<String, byte[]> kafkaTemplate(ProducerFactory<String, byte[]> producerFactory) {
         return new KafkaTemplate<>(producerFactory);
     }
 
+    @Bean
+    public KafkaSender kafkaSender(KafkaTemplate<String, byte[]> kafkaTemplate, MeterRegistry meterRegistry) {
+        Map<String, KafkaTemplate<String, byte[]>> templates = new HashMap<>();
+        templates.put(KafkaDeliveryProperties.DEFAULT_PROFILE, kafkaTemplate);
+        deliveryProperties.getProfiles().forEach((name, profile) ->
+                templates.putIfAbsent(name, new KafkaTemplate<>(producerFactory(profile))));
+        return new KafkaSender(templates, deliveryProperties, meterRegistry);
+    }
+
     private NewTopic buildTopic(String name) {
         return TopicBuilder
                 .name(name)
                 .replicas(REPLICA_COUNT)
-                .partitions(PARTITION_COUNT)
+                .partitions(partitionCount)
                 .build();
     }
 
@@ -1,9 +1,11 @@
 package br.com.microservices.orchestrated.productvalidationservice.core.consumer;
 
+import br.com.microservices.orchestrated.productvalidationservice.core.dto.Event;
 import br.com.microservices.orchestrated.productvalidationservice.core.service.ProductValidationService;
-import br.com.microservices.orchestrated.productvalidationservice.utils.JsonUtil;
+import br.com.microservices.orchestrated.productvalidationservice.utils.EventCodec;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -13,23 +15,23 @@ import org.springframework.stereotype.Component;
 public class ProductValidationConsumer {
 
     private final ProductValidationService service;
-    private  final JsonUtil jsonUtil;
+    private final EventCodec codec;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.product-validation-success}"
     )
-    public void consumerProductValidationSuccessEvent(String payload){
-        log.info("Receiving product validation success event {} from product-validation-success topic",payload);
-        service.validateExistingProducts(jsonUtil.toEvent(payload));
+    public void consumerProductValidationSuccessEvent(ConsumerRecord<String, byte[]> record) {
+        log.info("Receiving product validation success event {} from product-validation-success topic", record.key());
+        service.validateExistingProducts(codec.decode(record, Event.class));
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.product-validation-fail}"
     )
-    public void consumerProductValidationFailEvent(String payload) {
-        log.info("Receiving product validation fail event {} from product-validation-fail topic",payload);
-        service.rollbackEvent(jsonUtil.toEvent(payload));
+    public void consumerProductValidationFailEvent(ConsumerRecord<String, byte[]> record) {
+        log.info("Receiving product validation fail event {} from product-validation-fail topic", record.key());
+        service.rollbackEvent(codec.decode(record, Event.class));
     }
 }
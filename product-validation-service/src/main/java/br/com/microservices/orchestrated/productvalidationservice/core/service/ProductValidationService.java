@@ -9,12 +9,14 @@ import br.com.microservices.orchestrated.productvalidationservice.core.repositor
 import br.com.microservices.orchestrated.productvalidationservice.core.dto.Event;
 import br.com.microservices.orchestrated.productvalidationservice.core.dto.History;
 import br.com.microservices.orchestrated.productvalidationservice.core.dto.OrderProducts;
-import br.com.microservices.orchestrated.productvalidationservice.utils.JsonUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.springframework.util.ObjectUtils.isEmpty;
 
@@ -27,27 +29,43 @@ public class ProductValidationService {
     private final ValidationRepository validationRepository;
     private final ProductRepository productRepository;
     private final KafkaProducer producer;
-    private final JsonUtil jsonUtil;
+    private final EventHistoryService historyService;
+    private final MeterRegistry meterRegistry;
 
     private static final String CURRENT_SOURCE = "PRODUCT_VALIDATION_SERVICE";
 
     public void validateExistingProducts(Event event){
+        producer.startRecord();
+        var sample = Timer.start(meterRegistry);
         try{
-            checkCurrentValidation(event);
-            createValidation(event, true);
+            var previous = findPreviousValidation(event);
+            if (previous.isEmpty()) {
+                checkCurrentValidation(event);
+                createValidation(event, true);
+            } else if (!previous.get().isSuccess()) {
+                throw new ValidationException("Product validation was already rolled back for this transaction.");
+            }
             handleSuccess(event);
         } catch (Exception ex) {
             log.error("Error trying to validate products: ",ex);
             handleFailedCurrentNotExecuted(event, ex.getMessage());
         }
-        producer.sendEvent(jsonUtil.toJson(event));
+        recordProcessingTime(sample, event);
+        producer.sendEvent(event);
+    }
+
+    private void recordProcessingTime(Timer.Sample sample, Event event) {
+        sample.stop(Timer
+                .builder("saga.step.processing")
+                .tag("source", CURRENT_SOURCE)
+                .tag("status", String.valueOf(event.getStatus()))
+                .register(meterRegistry));
     }
 
     private void handleFailedCurrentNotExecuted(Event event, String message) {
         event.setStatus(ESagaStatus.ROLLBACK_PENDING);
         event.setSource(CURRENT_SOURCE);
         addHistory(event,"Fail to validate products: ".concat(message));
-        producer.sendEvent(jsonUtil.toJson(event));
     }
 
     private void handleSuccess(Event event) {
@@ -64,7 +82,7 @@ public class ProductValidationService {
                 .message(message)
                 .createdAt(LocalDateTime.now())
                 .build();
-        event.addToEventHistory(history);
+        historyService.addHistory(event, history);
     }
 
     private void createValidation(Event event, boolean success) {
@@ -78,13 +96,17 @@ public class ProductValidationService {
         validationRepository.save(validation);
     }
 
-    private void checkCurrentValidation(Event event) {
+    /**
+     * A validation row is only written once the products passed, so finding one means a redelivered record
+     * whose first attempt succeeded, and that outcome is replayed instead of failing.
+     */
+    private Optional<Validation> findPreviousValidation(Event event) {
         validateProductsInformed(event);
-        if (validationRepository.existsByOrderIdAndTransactionId(event.getPayload().getId(),
-                                                                 event.getPayload().getTransactionId())){
-            throw new ValidationException("There's another transactionId for this validation.!");
-        }
+        return validationRepository.findByOrderIdAndTransactionId(event.getPayload().getId(),
+                                                                  event.getPayload().getTransactionId());
+    }
 
+    private void checkCurrentValidation(Event event) {
         event.getPayload().getProducts().forEach(orderProduct -> {
             validateProductInformed(orderProduct);
             validateExistingProduct(orderProduct.getProduct().getCode());
@@ -114,11 +136,12 @@ public class ProductValidationService {
     }
 
     public void rollbackEvent(Event event){
+        producer.startRecord();
         changeValidateFail(event);
         event.setSource(CURRENT_SOURCE);
         event.setStatus(ESagaStatus.FAIL);
         addHistory(event, "Rollback executed on product validation!");
-        producer.sendEvent(jsonUtil.toJson(event));
+        producer.sendEvent(event);
     }
 
     private void changeValidateFail(Event event) {
@@ -0,0 +1,61 @@
+package br.com.microservices.orchestrated.productvalidationservice.utils;
+
+import br.com.microservices.orchestrated.productvalidationservice.config.exception.CodecException;
+import br.com.microservices.orchestrated.productvalidationservice.core.enums.ECodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Encodes saga messages with the configured wire format and decodes them by the format named in the
+ * record's content-type header, so services can switch formats one at a time.
+ */
+@Component
+public class EventCodec {
+
+    private final Map<ECodec, ObjectMapper> mappers = new EnumMap<>(ECodec.class);
+    private final ECodec codec;
+
+    public EventCodec(ObjectMapper objectMapper, @Value("${spring.kafka.codec}") ECodec codec) {
+        this.mappers.put(ECodec.JSON, objectMapper);
+        this.mappers.put(ECodec.SMILE, objectMapper.copyWith(new SmileFactory()));
+        this.codec = codec;
+    }
+
+    public String contentType() {
+        return codec.getContentType();
+    }
+
+    public byte[] encode(Object value) {
+        try {
+            return mappers.get(codec).writeValueAsBytes(value);
+        } catch (IOException ex) {
+            throw new CodecException("Error trying to encode " + value.getClass().getSimpleName() + " as " + codec, ex);
+        }
+    }
+
+    public <T> T decode(ConsumerRecord<String, byte[]> record, Class<T> type) {
+        var header = record.headers().lastHeader(SagaHeaders.CONTENT_TYPE);
+        var contentType = header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+        return decode(record.value(), contentType, type);
+    }
+
+    public <T> T decode(byte[] payload, String contentType, Class<T> type) {
+        var format = ECodec.fromContentType(contentType);
+        if (payload == null) {
+            throw new CodecException("Empty " + type.getSimpleName() + " payload!");
+        }
+        try {
+            return mappers.get(format).readValue(payload, type);
+        } catch (IOException ex) {
+            throw new CodecException("Error trying to decode " + type.getSimpleName() + " as " + format, ex);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.microservices.orchestrated.productvalidationservice.config.kafka;
+
+import br.com.microservices.orchestrated.productvalidationservice.core.dto.Event;
+import br.com.microservices.orchestrated.productvalidationservice.core.enums.ECodec;
+import br.com.microservices.orchestrated.productvalidationservice.utils.EventCodec;
+import br.com.microservices.orchestrated.productvalidationservice.utils.SagaHeaders;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.microservices.orchestrated.productvalidationservice.core.enums.ESagaStatus.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EmbeddedKafka(partitions = 1, topics = KafkaConfigTest.TOPIC)
+class KafkaConfigTest {
+
+    static final String TOPIC = "product-validation-success";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void defaultListenerFactoryDeliversEncodedRecords(EmbeddedKafkaBroker broker) throws Exception {
+        var config = new KafkaConfig(new KafkaDeliveryProperties());
+        ReflectionTestUtils.setField(config, "bootstrapServers", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(config, "groupId", "product-validation-test");
+        ReflectionTestUtils.setField(config, "autoOffsetReset", "earliest");
+        ReflectionTestUtils.setField(config, "listenerConcurrency", 1);
+        var codec = new EventCodec(MAPPER, ECodec.SMILE);
+        var received = new LinkedBlockingQueue<Event>();
+
+        var container = config.kafkaListenerContainerFactory().createContainer(TOPIC);
+        container.setupMessageListener((MessageListener<String, byte[]>) record -> received.add(codec.decode(record, Event.class)));
+        container.start();
+        try {
+            var record = new ProducerRecord<>(TOPIC, "tx-1", codec.encode(event()));
+            record.headers().add(SagaHeaders.CONTENT_TYPE, codec.contentType().getBytes(StandardCharsets.UTF_8));
+            new KafkaTemplate<>(config.producerFactory()).send(record).get(30, TimeUnit.SECONDS);
+
+            assertEquals(event(), received.poll(30, TimeUnit.SECONDS));
+        } finally {
+            container.stop();
+        }
+    }
+
+    private static Event event() {
+        return Event
+                .builder()
+                .id("1")
+                .transactionId("tx-1")
+                .orderId("order-1")
+                .source("PRODUCT_VALIDATION_SERVICE")
+                .status(SUCCESS)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+    }
+}